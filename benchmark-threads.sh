@@ -0,0 +1,71 @@
+#!/bin/bash
+
+# Compliance Checker - Thread Mode Benchmark
+# Compares report-generator throughput and memory per concurrent request between platform threads and
+# virtual threads (spring.threads.virtual.enabled, Java 21+ runtime). Each mode is brought up with
+# docker compose, loaded with CONCURRENCY parallel clients for REQUESTS requests, and sampled for
+# container memory while the load is running.
+#
+# Usage: ./benchmark-threads.sh [concurrency] [requests]
+
+set -e
+
+CONCURRENCY=${1:-200}
+REQUESTS=${2:-5000}
+URL=${URL:-http://localhost:5001/api/report/gaps/iso-27001-simplified}
+
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+wait_for_report_generator() {
+    for _ in $(seq 1 60); do
+        if curl -s -o /dev/null -f "$URL"; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "report-generator did not become ready" >&2
+    exit 1
+}
+
+memory_mib() {
+    docker stats --no-stream --format '{{.MemUsage}}' report-generator \
+        | awk '{ v = $1; if (v ~ /GiB/) { sub(/GiB/, "", v); v *= 1024 } else { sub(/MiB/, "", v) } print v }'
+}
+
+run_mode() {
+    local virtual=$1
+    echo -e "${BLUE}=== spring.threads.virtual.enabled=${virtual} ===${NC}"
+    VIRTUAL_THREADS=$virtual docker compose up -d --build --force-recreate report-generator > /dev/null
+    wait_for_report_generator
+
+    # Warm up JIT and the checklist/gap caches before measuring
+    seq 1 500 | xargs -P 50 -I{} curl -s -o /dev/null "$URL"
+
+    local idle
+    idle=$(memory_mib)
+
+    local start end peak=0
+    start=$(date +%s.%N)
+    seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} curl -s -o /dev/null "$URL" &
+    local load=$!
+    while kill -0 $load 2> /dev/null; do
+        peak=$(memory_mib | awk -v p="$peak" '{ print ($1 > p ? $1 : p) }')
+        sleep 1
+    done
+    end=$(date +%s.%N)
+
+    echo -e "${GREEN}throughput:${NC} $(echo "$REQUESTS / ($end - $start)" | bc -l | xargs printf '%.1f') req/s"
+    echo -e "${GREEN}memory:${NC} idle ${idle} MiB, peak ${peak} MiB," \
+        "$(echo "($peak - $idle) * 1024 / $CONCURRENCY" | bc -l | xargs printf '%.1f') KiB per concurrent request"
+    echo ""
+}
+
+echo "======================================================================"
+echo "Thread mode benchmark: $CONCURRENCY concurrent clients, $REQUESTS requests"
+echo "======================================================================"
+echo ""
+
+run_mode false
+run_mode true
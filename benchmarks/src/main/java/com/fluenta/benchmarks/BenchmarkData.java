@@ -0,0 +1,47 @@
+package com.fluenta.benchmarks;
+
+import com.fluenta.report.model.Checklist;
+import com.fluenta.report.model.ChecklistItem;
+import com.fluenta.report.model.Evidence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic report-generator checklists for the benchmarks. A third of the items carry evidence so
+ * gap analysis has something to send.
+ */
+final class BenchmarkData {
+    private static final String[] STATUSES = {"COMPLETED", "PARTIAL", "PENDING"};
+
+    private BenchmarkData() {
+    }
+
+    static Checklist reportChecklist(int itemCount, int categoryCount) {
+        Random random = new Random(42);
+        List<ChecklistItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(ChecklistItem.builder()
+                    .id("REQ-" + i)
+                    .category("Category " + (i % categoryCount))
+                    .requirement("Requirement text for control " + i)
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .evidence(i % 3 == 0
+                            ? List.of(Evidence.builder()
+                                    .documentId("doc-" + i)
+                                    .documentName("policy-" + i + ".pdf")
+                                    .confidence(random.nextDouble())
+                                    .uploadedAt("2024-01-01T00:00:00Z")
+                                    .build())
+                            : new ArrayList<>())
+                    .hints(List.of("policy", "control " + i))
+                    .build());
+        }
+        return Checklist.builder()
+                .id("benchmark-" + itemCount)
+                .name("Benchmark checklist")
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.report.client.ChecklistServiceClient;
+import com.fluenta.report.model.Checklist;
+import org.openjdk.jmh.annotations.*;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ChecklistServiceClient} fetches over real HTTP from an in-process stand-in for checklist-service that
+ * honours If-None-Match. Each call picks one of {@code checklists} checklists at random, and with probability
+ * {@code changePercent} the stub changes that checklist's version first, as a concurrent update would.
+ * <p>
+ * Sample mode reports the latency distribution (p99 included). Hit rate and response bytes per fetch are printed
+ * when each trial ends, since JMH does not record them: with the cache off every fetch transfers the whole
+ * checklist, and with a cache smaller than the working set ({@code maxEntries < checklists}) evicted copies are
+ * fetched again.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChecklistClientBenchmark {
+
+    @Param({"200"})
+    private int checklists;
+
+    @Param({"500"})
+    private int items;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    @Param({"256", "50"})
+    private int maxEntries;
+
+    @Param({"0", "10"})
+    private int changePercent;
+
+    private DisposableServer server;
+    private ChecklistServiceClient client;
+    private byte[] body;
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private long hitsBefore;
+    private long missesBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Checklist checklist = BenchmarkData.reportChecklist(items, 12);
+        body = new ObjectMapper().writeValueAsBytes(checklist);
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/api/checklists/{id}", this::serve))
+                .bindNow();
+
+        client = new ChecklistServiceClient("http://127.0.0.1:" + server.port(), List.of(), 128,
+                "json", cache, maxEntries);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        fetches.set(0);
+        bytesSent.set(0);
+        hitsBefore = client.getCacheHits();
+        missesBefore = client.getCacheMisses();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long hits = client.getCacheHits() - hitsBefore;
+        long misses = client.getCacheMisses() - missesBefore;
+        System.out.printf("%n  fetches %d, hit rate %.1f%%, %.0f response bytes/fetch%n", fetches.get(),
+                hits + misses == 0 ? 0.0 : hits * 100.0 / (hits + misses), bytesSent.get() / (double) fetches.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public Checklist fetchChecklist() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String id = "checklist-" + random.nextInt(checklists);
+        if (random.nextInt(100) < changePercent) {
+            versions.computeIfAbsent(id, key -> new AtomicLong()).incrementAndGet();
+        }
+        return client.getChecklist(id);
+    }
+
+    private Publisher<Void> serve(HttpServerRequest request, HttpServerResponse response) {
+        String id = request.param("id");
+        String etag = "\"" + versions.computeIfAbsent(id, key -> new AtomicLong()).get() + "\"";
+        fetches.incrementAndGet();
+
+        response.header(HttpHeaders.ETAG, etag);
+        if (etag.equals(request.requestHeaders().get(HttpHeaders.IF_NONE_MATCH))) {
+            return response.status(304).send();
+        }
+        bytesSent.addAndGet(body.length);
+        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendByteArray(Mono.just(body));
+    }
+}
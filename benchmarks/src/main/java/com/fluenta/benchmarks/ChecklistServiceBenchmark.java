@@ -0,0 +1,138 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.BatchStatusUpdateRequest;
+import com.fluenta.checklist.model.BatchStatusUpdateResponse;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.ProgressResponse;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.DocumentRegistry;
+import com.fluenta.checklist.repository.InMemoryEvidenceArchive;
+import com.fluenta.checklist.repository.LocalChecklistOwnership;
+import com.fluenta.checklist.repository.NoOpChecklistJournal;
+import com.fluenta.checklist.service.ChecklistEventPublisher;
+import com.fluenta.checklist.service.ChecklistMetrics;
+import com.fluenta.checklist.service.ChecklistNdjsonCodec;
+import com.fluenta.checklist.service.ChecklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status updates and progress reads on {@link ChecklistService}, wired without Spring and without journaling.
+ * <p>
+ * {@code evidencePerItem} is the size of each item's evidence list; updates that add evidence spill the oldest
+ * entry to the archive so the list stays at that size across iterations. The status decision itself should not
+ * grow with the list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChecklistServiceBenchmark {
+    private static final String CHECKLIST_ID = "benchmark";
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"500"})
+    private int items;
+
+    @Param({"1", "100", "1000"})
+    private int evidencePerItem;
+
+    private ChecklistService service;
+    private StatusUpdateRequest withEvidence;
+    private StatusUpdateRequest statusOnly;
+    private BatchStatusUpdateRequest batch;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ChecklistRepository repository = new ChecklistRepository();
+        service = new ChecklistService(repository, new InMemoryEvidenceArchive(), new NoOpChecklistJournal(),
+                new ChecklistNdjsonCodec(objectMapper), objectMapper,
+                new ChecklistEventPublisher(256, 60_000, 1, 5_000),
+                new ChecklistMetrics(new SimpleMeterRegistry(), new DocumentRegistry(1000)),
+                new LocalChecklistOwnership(), new DefaultResourceLoader(), "", evidencePerItem);
+        repository.save(ServiceData.checklist(CHECKLIST_ID, items, evidencePerItem));
+
+        withEvidence = new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL,
+                ServiceData.evidence(new Random(7), "doc-update"));
+        statusOnly = new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL, null);
+
+        Random random = new Random(11);
+        List<BatchStatusUpdateRequest.ItemUpdate> updates = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            updates.add(BatchStatusUpdateRequest.ItemUpdate.builder()
+                    .checklistId(CHECKLIST_ID)
+                    .itemId("REQ-" + random.nextInt(items))
+                    .status(ChecklistItem.ItemStatus.PARTIAL)
+                    .evidence(withEvidence.getEvidence())
+                    .build());
+        }
+        batch = new BatchStatusUpdateRequest(updates);
+    }
+
+    @Benchmark
+    public Optional<ChecklistItem> updateWithEvidence() {
+        return service.updateItemStatus(CHECKLIST_ID, randomItemId(), withEvidence);
+    }
+
+    /**
+     * Re-derives the status from the existing evidence only, which isolates the best-status decision.
+     */
+    @Benchmark
+    public Optional<ChecklistItem> updateStatusOnly() {
+        return service.updateItemStatus(CHECKLIST_ID, randomItemId(), statusOnly);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<ChecklistItem> updateWithEvidenceContended() {
+        return service.updateItemStatus(CHECKLIST_ID, randomItemId(), withEvidence);
+    }
+
+    /**
+     * {@link #BATCH_SIZE} updates in one batch call; scores are per update, comparable with
+     * {@link #updateBatchAsSingles()}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchStatusUpdateResponse updateBatch() {
+        return service.updateItemStatuses(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void updateBatchAsSingles(Blackhole blackhole) {
+        for (BatchStatusUpdateRequest.ItemUpdate update : batch.getUpdates()) {
+            blackhole.consume(service.updateItemStatus(CHECKLIST_ID, update.getItemId(), withEvidence));
+        }
+    }
+
+    @Benchmark
+    public Optional<ProgressResponse> getProgress() {
+        return service.getProgress(CHECKLIST_ID);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<ProgressResponse> getProgressContended() {
+        return service.getProgress(CHECKLIST_ID);
+    }
+
+    private String randomItemId() {
+        return "REQ-" + ThreadLocalRandom.current().nextInt(items);
+    }
+}
@@ -0,0 +1,107 @@
+package com.fluenta.benchmarks;
+
+import com.fluenta.report.model.Checklist;
+import com.fluenta.report.model.ChecklistItem;
+import com.fluenta.report.model.ComplianceReport;
+import com.fluenta.report.service.ComplianceAggregator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the single-pass {@link ComplianceAggregator} with the previous multi-pass stream implementation.
+ * Run with {@code -prof gc} to see allocation per report.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComplianceReportBenchmark {
+
+    @Param({"10000", "100000"})
+    private int items;
+
+    private Checklist checklist;
+
+    @Setup
+    public void setUp() {
+        checklist = BenchmarkData.reportChecklist(items, 12);
+    }
+
+    @Benchmark
+    public ComplianceReport singlePass() {
+        return ComplianceAggregator.aggregate(checklist.getId(), checklist);
+    }
+
+    @Benchmark
+    public ComplianceReport multiPassStreams() {
+        return multiPass(checklist.getId(), checklist);
+    }
+
+    /**
+     * The report builder as it was before the single-pass aggregator, kept here as the baseline.
+     */
+    private static ComplianceReport multiPass(String checklistId, Checklist checklist) {
+        List<ChecklistItem> items = checklist.getItems();
+
+        long completed = items.stream().filter(i -> "COMPLETED".equals(i.getStatus())).count();
+        long partial = items.stream().filter(i -> "PARTIAL".equals(i.getStatus())).count();
+        long pending = items.stream().filter(i -> "PENDING".equals(i.getStatus())).count();
+
+        ComplianceReport.OverallStatus overallStatus = ComplianceReport.OverallStatus.builder()
+                .totalItems(items.size())
+                .completedItems((int) completed)
+                .partialItems((int) partial)
+                .pendingItems((int) pending)
+                .completionPercentage(items.size() > 0 ? (completed * 100.0 / items.size()) : 0.0)
+                .build();
+
+        Map<String, List<ChecklistItem>> itemsByCategory = items.stream()
+                .collect(Collectors.groupingBy(ChecklistItem::getCategory));
+
+        Map<String, ComplianceReport.CategorySummary> categorySummaries = new HashMap<>();
+        itemsByCategory.forEach((category, categoryItems) -> {
+            long categoryCompleted = categoryItems.stream()
+                    .filter(i -> "COMPLETED".equals(i.getStatus()))
+                    .count();
+
+            categorySummaries.put(category, ComplianceReport.CategorySummary.builder()
+                    .category(category)
+                    .total(categoryItems.size())
+                    .completed((int) categoryCompleted)
+                    .percentage(categoryItems.size() > 0 ? (categoryCompleted * 100.0 / categoryItems.size()) : 0.0)
+                    .build());
+        });
+
+        List<String> completedReqs = items.stream()
+                .filter(i -> "COMPLETED".equals(i.getStatus()))
+                .map(i -> i.getId() + ": " + i.getRequirement())
+                .collect(Collectors.toList());
+
+        List<String> partialReqs = items.stream()
+                .filter(i -> "PARTIAL".equals(i.getStatus()))
+                .map(i -> i.getId() + ": " + i.getRequirement())
+                .collect(Collectors.toList());
+
+        List<String> pendingReqs = items.stream()
+                .filter(i -> "PENDING".equals(i.getStatus()))
+                .map(i -> i.getId() + ": " + i.getRequirement())
+                .collect(Collectors.toList());
+
+        return ComplianceReport.builder()
+                .checklistId(checklistId)
+                .checklistName(checklist.getName())
+                .generatedAt(Instant.now().toString())
+                .overallStatus(overallStatus)
+                .categorySummaries(categorySummaries)
+                .completedRequirements(completedReqs)
+                .partialRequirements(partialReqs)
+                .pendingRequirements(pendingReqs)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.fluenta.benchmarks;
+
+import com.fluenta.checklist.model.Evidence;
+import com.fluenta.checklist.repository.ColumnarEvidenceArchive;
+import com.fluenta.checklist.repository.EvidenceArchive;
+import com.fluenta.checklist.repository.InMemoryEvidenceArchive;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Heap and GC cost of an archived evidence history, per evidence storage mode. Not a JMH benchmark: it loads
+ * {@code count} evidence entries into one archive, then reports the retained heap and the collector time spent
+ * while loading and in a full collection afterwards.
+ * <pre>
+ * java -Xmx3g -cp target/benchmarks.jar com.fluenta.benchmarks.EvidenceFootprint objects 5000000
+ * java -Xmx3g -cp target/benchmarks.jar com.fluenta.benchmarks.EvidenceFootprint columnar 5000000
+ * </pre>
+ * Every entry gets fresh string instances, as it would when deserialized from a request.
+ */
+public final class EvidenceFootprint {
+    private static final int ITEMS = 1_000;
+    private static final int DOCUMENTS = 5_000;
+    private static final int SECTIONS = 20_000;
+
+    private EvidenceFootprint() {
+    }
+
+    public static void main(String[] args) {
+        String storage = args.length > 0 ? args[0] : "columnar";
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+        EvidenceArchive archive = switch (storage) {
+            case "objects" -> new InMemoryEvidenceArchive();
+            case "columnar" -> new ColumnarEvidenceArchive(1);
+            default -> throw new IllegalArgumentException("storage must be objects or columnar: " + storage);
+        };
+
+        long baseline = usedHeapAfterGc();
+        long[] gcBefore = gcTotals();
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(42);
+        long uploadedAt = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < count; i++) {
+            int document = random.nextInt(DOCUMENTS);
+            archive.archive("iso-27001", "ITEM-" + (i % ITEMS), Evidence.builder()
+                    .documentId(String.format("%064x", document))
+                    .documentName("policy-document-" + document + ".pdf")
+                    .confidence(random.nextDouble())
+                    .uploadedAt(Instant.ofEpochMilli(uploadedAt + i * 1000L))
+                    .relevantSections("Section " + random.nextInt(SECTIONS)
+                            + ": Access control and password requirements")
+                    .build());
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        long[] gcAfterLoad = gcTotals();
+
+        long retained = usedHeapAfterGc() - baseline;
+        long fullGcStart = System.nanoTime();
+        System.gc();
+        long fullGcMillis = (System.nanoTime() - fullGcStart) / 1_000_000;
+
+        List<Evidence> sample = archive.findArchived("iso-27001", "ITEM-0");
+        Reference.reachabilityFence(archive);
+
+        System.out.printf("storage=%s evidence=%d%n", storage, count);
+        System.out.printf("  retained heap      %,d MB (%d bytes/evidence)%n", retained >> 20, retained / count);
+        System.out.printf("  load time          %,d ms%n", loadMillis);
+        System.out.printf("  gc during load     %d collections, %,d ms%n",
+                gcAfterLoad[0] - gcBefore[0], gcAfterLoad[1] - gcBefore[1]);
+        System.out.printf("  full gc afterwards %,d ms%n", fullGcMillis);
+        System.out.printf("  materialized       %d entries for ITEM-0%n", sample.size());
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long[] gcTotals() {
+        long collections = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[] {collections, millis};
+    }
+}
@@ -0,0 +1,188 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.report.client.ChecklistServiceClient;
+import com.fluenta.report.client.EvidenceAnalyzerClient;
+import com.fluenta.report.model.Checklist;
+import com.fluenta.report.model.GapAnalysisResponse;
+import com.fluenta.report.model.GapReport;
+import com.fluenta.report.service.GapAnalysisCache;
+import com.fluenta.report.service.MaterializedReportStore;
+import com.fluenta.report.service.ReportMetrics;
+import com.fluenta.report.service.ReportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for gap reports: {@code concurrent} reports for distinct checklists are started at once, with
+ * checklist-service and the analyzer replaced by in-process HTTP stubs and the analyzer answering after
+ * {@code analyzerLatencyMillis}. Each operation is one such wave, so the score is the time until the last report
+ * is done.
+ * <p>
+ * {@code blocking} runs the reports on 200 threads, Tomcat's default maximum, the way the servlet endpoints do;
+ * {@code reactive} subscribes to all of them at once, the way the endpoints do with {@code report.reactive.enabled}.
+ * The analyzer limit is raised to 256 so it is not what caps the wave. Per iteration the peak thread count, failed
+ * reports and analyzer fallbacks (timeouts) are printed.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GapReportLoadBenchmark {
+    private static final int REQUEST_THREADS = 200;
+    private static final int ANALYZER_CONCURRENCY = 256;
+
+    @Param({"blocking", "reactive"})
+    private String mode;
+
+    @Param({"200", "1000", "4000"})
+    private int concurrent;
+
+    @Param({"500"})
+    private int analyzerLatencyMillis;
+
+    private final Map<String, byte[]> checklists = new HashMap<>();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final AtomicInteger failures = new AtomicInteger();
+    private DisposableServer checklistServer;
+    private DisposableServer analyzerServer;
+    private byte[] analyzerBody;
+    private SimpleMeterRegistry registry;
+    private ReportService reportService;
+    private ExecutorService requestThreads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (int i = 0; i < concurrent; i++) {
+            // Distinct requirement text gives every checklist its own gap-analysis key
+            Checklist checklist = BenchmarkData.reportChecklist(25, 5);
+            checklist.setId("load-" + i);
+            checklist.getItems().get(0).setRequirement("Requirement text for checklist " + i);
+            checklists.put(checklist.getId(), objectMapper.writeValueAsBytes(checklist));
+        }
+        analyzerBody = objectMapper.writeValueAsBytes(GapAnalysisResponse.builder()
+                .suggestions(List.of("Document the access review process"))
+                .criticalGaps(List.of())
+                .build());
+
+        checklistServer = HttpServer.create().host("127.0.0.1").port(0)
+                .route(routes -> routes.get("/api/checklists/{id}", this::serveChecklist))
+                .bindNow();
+        analyzerServer = HttpServer.create().host("127.0.0.1").port(0)
+                .route(routes -> routes.post("/api/analyze/gaps", this::serveAnalysis))
+                .bindNow();
+
+        ChecklistServiceClient checklistClient = new ChecklistServiceClient(
+                "http://127.0.0.1:" + checklistServer.port(), List.of(), 128, "json", false, 256);
+        EvidenceAnalyzerClient analyzerClient = new EvidenceAnalyzerClient(
+                "http://127.0.0.1:" + analyzerServer.port(), ANALYZER_CONCURRENCY, Duration.ofSeconds(2),
+                Duration.ofSeconds(20), ANALYZER_CONCURRENCY, Integer.MAX_VALUE, Duration.ofSeconds(30), Duration.ZERO);
+        GapAnalysisCache cache = new GapAnalysisCache(objectMapper, 0, Duration.ofHours(1), "");
+        MaterializedReportStore reportStore = new MaterializedReportStore(checklistClient, false,
+                Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofSeconds(30), 16);
+        registry = new SimpleMeterRegistry();
+        reportService = new ReportService(checklistClient, analyzerClient, cache, reportStore,
+                new ReportMetrics(registry, cache, reportStore, checklistClient, analyzerClient),
+                Duration.ofSeconds(30), 16);
+        requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "load-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        failures.set(0);
+        registry.clear();
+        threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        double fallbacks = registry.find("report.analyzer.fallbacks").counter() == null
+                ? 0 : registry.find("report.analyzer.fallbacks").counter().count();
+        System.out.printf("%n  peak threads %d, failed reports %d, analyzer fallbacks %.0f%n",
+                threads.getPeakThreadCount(), failures.get(), fallbacks);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestThreads.shutdownNow();
+        checklistServer.disposeNow();
+        analyzerServer.disposeNow();
+    }
+
+    @Benchmark
+    public int wave() {
+        if ("reactive".equals(mode)) {
+            return Flux.range(0, concurrent)
+                    .flatMap(i -> reportService.generateGapReportAsync("load-" + i)
+                            .onErrorResume(e -> {
+                                failures.incrementAndGet();
+                                return Mono.empty();
+                            }), concurrent)
+                    .count()
+                    .block()
+                    .intValue();
+        }
+        List<CompletableFuture<GapReport>> reports = new ArrayList<>(concurrent);
+        for (int i = 0; i < concurrent; i++) {
+            String checklistId = "load-" + i;
+            reports.add(CompletableFuture.supplyAsync(() -> reportService.generateGapReport(checklistId),
+                    requestThreads));
+        }
+        int completed = 0;
+        for (CompletableFuture<GapReport> report : reports) {
+            try {
+                report.join();
+                completed++;
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        }
+        return completed;
+    }
+
+    private Publisher<Void> serveChecklist(HttpServerRequest request, HttpServerResponse response) {
+        byte[] body = checklists.get(request.param("id"));
+        if (body == null) {
+            return response.status(404).send();
+        }
+        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendByteArray(Mono.just(body));
+    }
+
+    private Publisher<Void> serveAnalysis(HttpServerRequest request, HttpServerResponse response) {
+        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendByteArray(request.receive().aggregate().asString()
+                        .then(Mono.delay(Duration.ofMillis(analyzerLatencyMillis)))
+                        .thenReturn(analyzerBody));
+    }
+}
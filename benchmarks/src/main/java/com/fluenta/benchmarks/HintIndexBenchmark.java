@@ -0,0 +1,108 @@
+package com.fluenta.benchmarks;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.HintIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Scans the sample-documents corpus for checklist hints: the {@link HintIndex} automaton against the previous
+ * per-item, per-hint {@code contains} check. The {@code bytes} counter is reported as a rate, i.e. scan
+ * throughput in bytes per second.
+ * <p>
+ * {@code hints=iso} uses the built-in ISO 27001 checklist (30 hints); {@code hints=synthetic} adds a
+ * 1000-item checklist with 2000 distinct hints. Run from the {@code benchmarks} directory, or point
+ * {@code -p corpus=...} at the documents.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HintIndexBenchmark {
+
+    @Param({"../sample-documents"})
+    private String corpus;
+
+    @Param({"iso", "synthetic"})
+    private String hints;
+
+    private List<String> documents;
+    private List<ChecklistItem> items;
+    private HintIndex index;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        try (Stream<Path> files = Files.walk(Path.of(corpus))) {
+            documents = files.filter(Files::isRegularFile)
+                    .sorted()
+                    .map(HintIndexBenchmark::read)
+                    .toList();
+        }
+        Checklist checklist = hints.equals("iso")
+                ? new ChecklistRepository().findById("iso-27001-simplified").orElseThrow()
+                : ServiceData.checklist("synthetic", 1000, 0);
+        if (hints.equals("synthetic")) {
+            for (ChecklistItem item : checklist.getItems()) {
+                item.setHints(List.of("control objective " + item.getId().toLowerCase(Locale.ROOT),
+                        "policy clause " + item.getId().toLowerCase(Locale.ROOT)));
+            }
+        }
+        items = checklist.getItems();
+        index = new HintIndex(checklist);
+    }
+
+    @Benchmark
+    public int automaton(Bytes counter) {
+        int matches = 0;
+        for (String document : documents) {
+            matches += index.scan(document).size();
+            counter.bytes += document.length();
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int containsPerHint(Bytes counter) {
+        int matches = 0;
+        for (String document : documents) {
+            String text = document.toLowerCase(Locale.ROOT);
+            List<ChecklistItem> candidates = new ArrayList<>();
+            for (ChecklistItem item : items) {
+                if (item.getHints().stream().anyMatch(hint -> text.contains(hint.toLowerCase(Locale.ROOT)))) {
+                    candidates.add(item);
+                }
+            }
+            matches += candidates.size();
+            counter.bytes += document.length();
+        }
+        return matches;
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import com.fluenta.checklist.repository.ChecklistJournal;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.DocumentRegistry;
+import com.fluenta.checklist.repository.FileChecklistJournal;
+import com.fluenta.checklist.repository.InMemoryEvidenceArchive;
+import com.fluenta.checklist.repository.LocalChecklistOwnership;
+import com.fluenta.checklist.service.ChecklistEventPublisher;
+import com.fluenta.checklist.service.ChecklistMetrics;
+import com.fluenta.checklist.service.ChecklistNdjsonCodec;
+import com.fluenta.checklist.service.ChecklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileChecklistJournal} on a real directory: status update throughput under each durability policy, and
+ * restart time for a journal of {@code entries} updates, replayed from the log alone or from a snapshot.
+ * <p>
+ * Both depend on the disk, so compare runs on the same machine. Set {@code -Djournal.dir} to benchmark a
+ * specific filesystem; the default is the system temp directory.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalBenchmark {
+    private static final String CHECKLIST_ID = "benchmark";
+    private static final int ITEMS = 500;
+
+    @State(Scope.Benchmark)
+    public static class Writing {
+        @Param({"sync", "async"})
+        private String durability;
+
+        private Path directory;
+        private FileChecklistJournal journal;
+        private ChecklistService service;
+        private StatusUpdateRequest update;
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = createDirectory();
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            ChecklistRepository repository = new ChecklistRepository();
+            repository.save(ServiceData.checklist(CHECKLIST_ID, ITEMS, 0));
+            InMemoryEvidenceArchive evidenceArchive = new InMemoryEvidenceArchive();
+            journal = new FileChecklistJournal(repository, evidenceArchive, objectMapper, directory.toString(), 0,
+                    65536, durability);
+            journal.recover((checklistId, itemId, request) -> { });
+            service = new ChecklistService(repository, evidenceArchive, journal,
+                    new ChecklistNdjsonCodec(objectMapper), objectMapper,
+                    new ChecklistEventPublisher(256, 60_000, 1, 5_000),
+                    new ChecklistMetrics(new SimpleMeterRegistry(), new DocumentRegistry(1000)),
+                    new LocalChecklistOwnership(), new DefaultResourceLoader(), "", 100);
+            update = new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL,
+                    ServiceData.evidence(new Random(7), "doc-update"));
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            journal.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Restarting {
+        @Param({"10000", "100000"})
+        private int entries;
+
+        @Param({"false", "true"})
+        private boolean snapshot;
+
+        private Path directory;
+        private ObjectMapper objectMapper;
+        private FileChecklistJournal recovered;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            directory = createDirectory();
+            objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            ChecklistRepository repository = new ChecklistRepository();
+            repository.save(ServiceData.checklist(CHECKLIST_ID, ITEMS, 0));
+            FileChecklistJournal journal = new FileChecklistJournal(repository, new InMemoryEvidenceArchive(),
+                    objectMapper, directory.toString(), 0, 65536, "async");
+            journal.recover((checklistId, itemId, request) -> { });
+            journal.appendSave(repository.findById(CHECKLIST_ID).orElseThrow());
+
+            Random random = new Random(42);
+            StatusUpdateRequest last = null;
+            for (int i = 0; i < entries; i++) {
+                last = new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL,
+                        ServiceData.evidence(random, "doc-" + i));
+                journal.append(CHECKLIST_ID, "REQ-" + (i % ITEMS), last);
+            }
+            journal.append(CHECKLIST_ID, "REQ-0", last).get(60, TimeUnit.SECONDS);
+            if (snapshot) {
+                // Replay the log into the repository first so the snapshot holds every update
+                ChecklistRepository replayed = new ChecklistRepository();
+                FileChecklistJournal snapshotting = new FileChecklistJournal(replayed, new InMemoryEvidenceArchive(),
+                        objectMapper, directory.toString(), 0, 65536, "async");
+                journal.close();
+                snapshotting.recover(replayHandler(replayed));
+                snapshotting.snapshot();
+                snapshotting.close();
+            } else {
+                journal.close();
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void closeRecovered() throws Exception {
+            recovered.close();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(8)
+    public Optional<ChecklistItem> updateWithEvidence(Writing state) {
+        return state.service.updateItemStatus(CHECKLIST_ID,
+                "REQ-" + ThreadLocalRandom.current().nextInt(ITEMS), state.update);
+    }
+
+    /**
+     * Startup recovery: load the snapshot, if any, and replay the journal into a fresh repository.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public ChecklistRepository recover(Restarting state) {
+        ChecklistRepository repository = new ChecklistRepository();
+        state.recovered = new FileChecklistJournal(repository, new InMemoryEvidenceArchive(), state.objectMapper,
+                state.directory.toString(), 0, 65536, "async");
+        state.recovered.recover(replayHandler(repository));
+        return repository;
+    }
+
+    /**
+     * Applies replayed updates the way {@link ChecklistService} does, without the status bookkeeping.
+     */
+    private static ChecklistJournal.ReplayHandler replayHandler(ChecklistRepository repository) {
+        return (checklistId, itemId, request) -> repository.update(checklistId, checklist ->
+                repository.findItem(checklistId, itemId).map(item -> {
+                    item.getEvidence().add(request.getEvidence());
+                    item.recordEvidence(request.getEvidence());
+                    return item;
+                }).orElse(null));
+    }
+
+    private static Path createDirectory() throws IOException {
+        Path parent = Path.of(System.getProperty("journal.dir", System.getProperty("java.io.tmpdir")));
+        return Files.createTempDirectory(parent, "journal-benchmark");
+    }
+}
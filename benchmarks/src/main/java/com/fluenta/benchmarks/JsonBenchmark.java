@@ -0,0 +1,74 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fluenta.report.model.ComplianceReport;
+import com.fluenta.report.service.ComplianceAggregator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the payloads that cross the wire: a checklist as written by checklist-service and read by
+ * report-generator, and the compliance report returned to clients. Mappers are configured like Spring Boot's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"25", "1000", "10000"})
+    private int items;
+
+    private ObjectWriter checklistWriter;
+    private ObjectReader checklistReader;
+    private ObjectWriter reportWriter;
+    private ObjectReader reportReader;
+
+    private com.fluenta.checklist.model.Checklist serviceChecklist;
+    private byte[] checklistJson;
+    private ComplianceReport report;
+    private byte[] reportJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        checklistWriter = objectMapper.writerFor(com.fluenta.checklist.model.Checklist.class);
+        checklistReader = objectMapper.readerFor(com.fluenta.report.model.Checklist.class);
+        reportWriter = objectMapper.writerFor(ComplianceReport.class);
+        reportReader = objectMapper.readerFor(ComplianceReport.class);
+
+        serviceChecklist = ServiceData.checklist("benchmark", items, 2);
+        checklistJson = checklistWriter.writeValueAsBytes(serviceChecklist);
+
+        com.fluenta.report.model.Checklist reportChecklist = BenchmarkData.reportChecklist(items, 12);
+        report = ComplianceAggregator.aggregate(reportChecklist.getId(), reportChecklist);
+        reportJson = reportWriter.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public byte[] serializeChecklist() throws IOException {
+        return checklistWriter.writeValueAsBytes(serviceChecklist);
+    }
+
+    @Benchmark
+    public com.fluenta.report.model.Checklist deserializeChecklist() throws IOException {
+        return checklistReader.readValue(checklistJson);
+    }
+
+    @Benchmark
+    public byte[] serializeComplianceReport() throws IOException {
+        return reportWriter.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public ComplianceReport deserializeComplianceReport() throws IOException {
+        return reportReader.readValue(reportJson);
+    }
+}
@@ -0,0 +1,123 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.report.client.ChecklistServiceClient;
+import com.fluenta.report.client.EvidenceAnalyzerClient;
+import com.fluenta.report.model.*;
+import com.fluenta.report.service.GapAnalysisCache;
+import com.fluenta.report.service.MaterializedReportStore;
+import com.fluenta.report.service.ReportMetrics;
+import com.fluenta.report.service.ReportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report generation with checklist-service and the evidence analyzer replaced by in-process stubs, so only the
+ * report-generator's own work is measured. With {@code gapCache=false} every gap report goes through the full
+ * analyzer request path (request building, hashing, stub call); with it enabled repeated reports hit the cache.
+ * With {@code materialized=true} compliance reads are served from the materialized report store.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportServiceBenchmark {
+
+    @Param({"25", "1000", "10000"})
+    private int items;
+
+    @Param({"true", "false"})
+    private boolean gapCache;
+
+    @Param({"false", "true"})
+    private boolean materialized;
+
+    private ReportService reportService;
+    private String checklistId;
+
+    @Setup
+    public void setUp() {
+        Checklist checklist = BenchmarkData.reportChecklist(items, 12);
+        checklistId = checklist.getId();
+
+        GapAnalysisResponse analyzerResponse = GapAnalysisResponse.builder()
+                .suggestions(List.of("Document the access review process", "Upload the incident response plan"))
+                .criticalGaps(List.of("REQ-1: Requirement text for control 1"))
+                .build();
+
+        ChecklistServiceClient checklistClient = new StubChecklistClient(checklist);
+        EvidenceAnalyzerClient analyzerClient = new StubAnalyzerClient(analyzerResponse);
+        GapAnalysisCache cache = new GapAnalysisCache(new ObjectMapper(), gapCache ? 1000 : 0, Duration.ofHours(1), "");
+        MaterializedReportStore reportStore = new MaterializedReportStore(checklistClient, materialized,
+                Duration.ofHours(1), Duration.ofHours(1), Duration.ofSeconds(30), 16);
+        reportService = new ReportService(
+                checklistClient,
+                analyzerClient,
+                cache,
+                reportStore,
+                new ReportMetrics(new SimpleMeterRegistry(), cache, reportStore, checklistClient, analyzerClient),
+                Duration.ofSeconds(30),
+                16);
+    }
+
+    @Benchmark
+    public ComplianceReport generateComplianceReport() {
+        return reportService.generateComplianceReport(checklistId);
+    }
+
+    @Benchmark
+    public GapReport generateGapReport() {
+        return reportService.generateGapReport(checklistId);
+    }
+
+    private static final class StubChecklistClient extends ChecklistServiceClient {
+        private final Checklist checklist;
+
+        private StubChecklistClient(Checklist checklist) {
+            super("http://localhost", List.of(), 128, "json", false, 256);
+            this.checklist = checklist;
+        }
+
+        @Override
+        public Checklist getChecklist(String checklistId) {
+            return checklist;
+        }
+
+        @Override
+        public Mono<Checklist> getChecklistAsync(String checklistId) {
+            return Mono.just(checklist);
+        }
+
+        @Override
+        public Checklist getChecklistSummary(String checklistId) {
+            return checklist;
+        }
+
+        @Override
+        public Mono<Checklist> getChecklistSummaryAsync(String checklistId) {
+            return Mono.just(checklist);
+        }
+    }
+
+    private static final class StubAnalyzerClient extends EvidenceAnalyzerClient {
+        private final GapAnalysisResponse response;
+
+        private StubAnalyzerClient(GapAnalysisResponse response) {
+            super("http://localhost", 16, Duration.ofSeconds(2), Duration.ofSeconds(20), 32, 5,
+                    Duration.ofSeconds(30), Duration.ZERO);
+            this.response = response;
+        }
+
+        @Override
+        public Mono<GapAnalysisResponse> requestGapAnalysis(GapAnalysisRequest request) {
+            return Mono.just(response);
+        }
+    }
+}
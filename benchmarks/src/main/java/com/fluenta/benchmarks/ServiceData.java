@@ -0,0 +1,53 @@
+package com.fluenta.benchmarks;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.Evidence;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic checklist-service checklists for the benchmarks.
+ */
+final class ServiceData {
+    private ServiceData() {
+    }
+
+    static Checklist checklist(String id, int itemCount, int evidencePerItem) {
+        Random random = new Random(42);
+        List<ChecklistItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            List<Evidence> evidence = new ArrayList<>(evidencePerItem);
+            for (int e = 0; e < evidencePerItem; e++) {
+                evidence.add(evidence(random, "doc-" + i + "-" + e));
+            }
+            items.add(ChecklistItem.builder()
+                    .id("REQ-" + i)
+                    .category("Category " + (i % 12))
+                    .requirement("Requirement text for control " + i)
+                    .hints(List.of("policy", "control " + i))
+                    .status(ChecklistItem.ItemStatus.PENDING)
+                    .evidence(evidence)
+                    .build());
+        }
+        return Checklist.builder()
+                .id(id)
+                .name("Benchmark checklist")
+                .description("Synthetic checklist with " + itemCount + " items")
+                .items(items)
+                .build();
+    }
+
+    static Evidence evidence(Random random, String documentId) {
+        return Evidence.builder()
+                .documentId(documentId)
+                .documentName(documentId + ".pdf")
+                .confidence(random.nextDouble())
+                .uploadedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .relevantSections("Section 4.2: access reviews are performed quarterly")
+                .build();
+    }
+}
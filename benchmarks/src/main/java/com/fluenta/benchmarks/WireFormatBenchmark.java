@@ -0,0 +1,64 @@
+package com.fluenta.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fluenta.checklist.model.ChecklistViews;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The checklist transfer between checklist-service and report-generator, per wire format and view: encoding with
+ * checklist-service's model and view, decoding into report-generator's model. Payload sizes are printed at setup.
+ * Mappers are built like the ones Spring registers for each content type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"1000", "10000"})
+    private int items;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"full", "summary"})
+    private String view;
+
+    private com.fluenta.checklist.model.Checklist checklist;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = format.equals("smile")
+                ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        writer = view.equals("summary")
+                ? objectMapper.writerWithView(ChecklistViews.Summary.class).forType(com.fluenta.checklist.model.Checklist.class)
+                : objectMapper.writerFor(com.fluenta.checklist.model.Checklist.class);
+        reader = objectMapper.readerFor(com.fluenta.report.model.Checklist.class);
+
+        checklist = ServiceData.checklist("benchmark", items, 3);
+        payload = writer.writeValueAsBytes(checklist);
+        System.out.printf("%n%s/%s, %d items: %,d bytes%n", format, view, items, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(checklist);
+    }
+
+    @Benchmark
+    public com.fluenta.report.model.Checklist decode() throws IOException {
+        return reader.readValue(payload);
+    }
+}
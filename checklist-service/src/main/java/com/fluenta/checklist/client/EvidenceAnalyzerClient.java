@@ -0,0 +1,41 @@
+package com.fluenta.checklist.client;
+
+import com.fluenta.checklist.model.DocumentMatchRequest;
+import com.fluenta.checklist.model.DocumentMatchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Blocking client for the evidence analyzer's document matching. Calls are made from the document analysis
+ * pool, which bounds how many run at once.
+ */
+@Component
+public class EvidenceAnalyzerClient {
+    private final RestClient restClient;
+
+    public EvidenceAnalyzerClient(@Value("${evidence.analyzer.url:http://localhost:3001}") String evidenceAnalyzerUrl,
+                                  @Value("${evidence.analyzer.connect-timeout:PT2S}") Duration connectTimeout,
+                                  @Value("${evidence.analyzer.read-timeout:PT30S}") Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = RestClient.builder()
+                .baseUrl(evidenceAnalyzerUrl)
+                // Buffered so requests carry a Content-Length rather than a chunked body
+                .requestFactory(new BufferingClientHttpRequestFactory(requestFactory))
+                .build();
+    }
+
+    public DocumentMatchResult match(DocumentMatchRequest request) {
+        return restClient.post()
+                .uri("/api/analyze/match")
+                .body(request)
+                .retrieve()
+                .body(DocumentMatchResult.class);
+    }
+}
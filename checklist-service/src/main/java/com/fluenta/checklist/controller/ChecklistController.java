@@ -2,19 +2,37 @@ package com.fluenta.checklist.controller;
 
 import com.fluenta.checklist.model.*;
 import com.fluenta.checklist.service.ChecklistService;
+import com.fluenta.checklist.service.DocumentAnalysisService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/checklists")
 @CrossOrigin(origins = "*")
 public class ChecklistController {
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final int MAX_PAGE_SIZE = 500;
+    // A batch holds each checklist's write lock for all of its updates, so its size bounds how long writers wait
+    private static final int MAX_BATCH_UPDATES = 1000;
+
     private final ChecklistService service;
+    private final DocumentAnalysisService documentAnalysisService;
 
-    public ChecklistController(ChecklistService service) {
+    public ChecklistController(ChecklistService service, DocumentAnalysisService documentAnalysisService) {
         this.service = service;
+        this.documentAnalysisService = documentAnalysisService;
     }
 
     @GetMapping
@@ -22,9 +40,96 @@ public class ChecklistController {
         return ResponseEntity.ok(service.getAllChecklists());
     }
 
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportChecklists() {
+        StreamingResponseBody body = service::exportNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<ImportResponse> importChecklists(InputStream body) throws IOException {
+        return ResponseEntity.ok(service.importNdjson(body));
+    }
+
+    /**
+     * Returns the checklist as JSON, or as Smile when the client accepts {@code application/x-jackson-smile}.
+     * {@code view=summary} limits items to id, category, requirement and status.
+     * <p>
+     * The ETag names the version, the view and the encoding, so a revalidation never answers 304 for a different
+     * representation. The version is read before the checklist, so the ETag never claims newer content than the
+     * body; a matching If-None-Match yields 304 without serializing it.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Checklist> getChecklistById(@PathVariable String id) {
+    public ResponseEntity<MappingJacksonValue> getChecklistById(
+            @PathVariable String id,
+            @RequestParam(required = false) String view,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean summary = "summary".equals(view);
+        if (view != null && !summary && !"full".equals(view)) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean smile = accept != null && accept.contains(SMILE);
+
+        Optional<String> version = service.getVersion(id);
         return service.getChecklistById(id)
+                .map(checklist -> {
+                    MappingJacksonValue body = new MappingJacksonValue(checklist);
+                    if (summary) {
+                        body.setSerializationView(ChecklistViews.Summary.class);
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(version.map(v -> v + (summary ? "-summary" : "") + (smile ? "-smile" : "")).orElse(null))
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .body(body);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/version")
+    public ResponseEntity<ChecklistVersion> getVersion(@PathVariable String id) {
+        return service.getVersion(id)
+                .map(version -> ResponseEntity.ok()
+                        .eTag(version)
+                        .body(new ChecklistVersion(id, version)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/items")
+    public ResponseEntity<ItemPage> queryItems(
+            @PathVariable String id,
+            @RequestParam(required = false) ChecklistItem.ItemStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double minConfidence,
+            @RequestParam(required = false) Double maxConfidence,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) List<String> fields) {
+        ItemQuery query = ItemQuery.builder()
+                .status(status)
+                .category(category)
+                .minConfidence(minConfidence)
+                .maxConfidence(maxConfidence)
+                .cursor(cursor)
+                .limit(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)))
+                .fields(fields)
+                .build();
+        return service.queryItems(id, query)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/items/{itemId}")
+    public ResponseEntity<ChecklistItem> getItem(@PathVariable String id, @PathVariable String itemId) {
+        return service.getItem(id, itemId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/items/{itemId}/evidence/archive")
+    public ResponseEntity<List<Evidence>> getArchivedEvidence(@PathVariable String id, @PathVariable String itemId) {
+        return service.getArchivedEvidence(id, itemId)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -39,6 +144,50 @@ public class ChecklistController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/status/batch")
+    public ResponseEntity<BatchStatusUpdateResponse> updateItemStatuses(@RequestBody BatchStatusUpdateRequest request) {
+        if (request.getUpdates() != null && request.getUpdates().size() > MAX_BATCH_UPDATES) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(service.updateItemStatuses(request));
+    }
+
+    /**
+     * Matches a document against the checklist's items and records evidence for every match.
+     */
+    @PostMapping("/{id}/documents/analyze")
+    public ResponseEntity<DocumentAnalysisResponse> analyzeDocument(@PathVariable String id,
+                                                                    @RequestBody DocumentAnalysisRequest request) {
+        if (request.getDocumentText() == null || request.getDocumentText().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return documentAnalysisService.analyze(id, request)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Dry run of the hint pre-filter: which items a document would be analyzed against, without calling the
+     * analyzer.
+     */
+    @PostMapping("/{id}/documents/candidates")
+    public ResponseEntity<List<HintCandidate>> findCandidates(@PathVariable String id,
+                                                              @RequestBody DocumentAnalysisRequest request) {
+        if (request.getDocumentText() == null || request.getDocumentText().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return documentAnalysisService.findCandidates(id, request.getDocumentText())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable String id) {
+        return service.subscribe(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/{id}/progress")
     public ResponseEntity<ProgressResponse> getProgress(@PathVariable String id) {
         return service.getProgress(id)
@@ -0,0 +1,27 @@
+package com.fluenta.checklist.controller;
+
+import com.fluenta.checklist.model.DocumentRecord;
+import com.fluenta.checklist.service.DocumentAnalysisService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/documents")
+@CrossOrigin(origins = "*")
+public class DocumentController {
+    private final DocumentAnalysisService documentAnalysisService;
+
+    public DocumentController(DocumentAnalysisService documentAnalysisService) {
+        this.documentAnalysisService = documentAnalysisService;
+    }
+
+    /**
+     * Registry entry for a document, addressed by the content hash that evidence carries as its document id.
+     */
+    @GetMapping("/{hash}")
+    public ResponseEntity<DocumentRecord> getDocument(@PathVariable String hash) {
+        return documentAnalysisService.findDocument(hash)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
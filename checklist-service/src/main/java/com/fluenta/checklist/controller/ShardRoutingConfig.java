@@ -0,0 +1,26 @@
+package com.fluenta.checklist.controller;
+
+import com.fluenta.checklist.repository.ShardedChecklistOwnership;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Routes requests for a single checklist to its owner when {@code checklist.sharding.enabled=true}; see
+ * {@link ShardedChecklistOwnership} for the configuration.
+ */
+@Configuration
+@ConditionalOnProperty(name = "checklist.sharding.enabled", havingValue = "true")
+public class ShardRoutingConfig implements WebMvcConfigurer {
+    private final ShardedChecklistOwnership ownership;
+
+    public ShardRoutingConfig(ShardedChecklistOwnership ownership) {
+        this.ownership = ownership;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ShardRoutingInterceptor(ownership)).addPathPatterns("/api/checklists/**");
+    }
+}
@@ -0,0 +1,50 @@
+package com.fluenta.checklist.controller;
+
+import com.fluenta.checklist.repository.ShardedChecklistOwnership;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Sends requests for a checklist this instance does not own to the instance that does.
+ * <p>
+ * Only handlers mapped with an {@code {id}} path variable are routed. Collection endpoints stay local: list and
+ * export cover this instance's checklists, and import and batch status apply entries for this instance's
+ * checklists and name the owner of every other one. The redirect is a 307, so clients repeat the same method and
+ * body against the owner. Every routed response carries the owner in {@code X-Checklist-Shard}.
+ */
+public class ShardRoutingInterceptor implements HandlerInterceptor {
+    static final String SHARD_HEADER = "X-Checklist-Shard";
+
+    private final ShardedChecklistOwnership ownership;
+
+    public ShardRoutingInterceptor(ShardedChecklistOwnership ownership) {
+        this.ownership = ownership;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String checklistId = variables == null ? null : variables.get("id");
+        if (checklistId == null) {
+            return true;
+        }
+
+        String owner = ownership.ownerOf(checklistId);
+        response.setHeader(SHARD_HEADER, owner);
+        if (owner.equals(ownership.getSelf())) {
+            return true;
+        }
+        String query = request.getQueryString();
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, owner + request.getRequestURI() + (query == null ? "" : "?" + query));
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusUpdateRequest {
+    @Builder.Default
+    private List<ItemUpdate> updates = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemUpdate {
+        private String checklistId;
+        private String itemId;
+        private ChecklistItem.ItemStatus status;
+        private Evidence evidence;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusUpdateResponse {
+    private Integer applied;
+    private Integer notFound;
+    // Entries for checklists another instance owns (sharding only); each result names the owner
+    private Integer notOwned;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private String checklistId;
+        private String itemId;
+        private Outcome outcome;
+        private ChecklistItem.ItemStatus status;
+        // Base URL of the owning instance, for NOT_OWNED
+        private String owner;
+    }
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        NOT_OWNED
+    }
+}
@@ -1,5 +1,6 @@
 package com.fluenta.checklist.model;
 
+import com.fasterxml.jackson.annotation.JsonView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,10 +14,14 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Checklist {
+    @JsonView(ChecklistViews.Summary.class)
     private String id;
+    @JsonView(ChecklistViews.Summary.class)
     private String name;
+    @JsonView(ChecklistViews.Summary.class)
     private String description;
 
     @Builder.Default
+    @JsonView(ChecklistViews.Summary.class)
     private List<ChecklistItem> items = new ArrayList<>();
 }
@@ -1,11 +1,11 @@
 package com.fluenta.checklist.model;
 
+import com.fasterxml.jackson.annotation.JsonView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -13,14 +13,30 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChecklistItem {
+    @JsonView(ChecklistViews.Summary.class)
     private String id;
+    @JsonView(ChecklistViews.Summary.class)
     private String category;
+    @JsonView(ChecklistViews.Summary.class)
     private String requirement;
     private List<String> hints;
-    private ItemStatus status;
+    @JsonView(ChecklistViews.Summary.class)
+    private volatile ItemStatus status;
 
     @Builder.Default
-    private List<Evidence> evidence = new ArrayList<>();
+    private List<Evidence> evidence = new EvidenceList();
+
+    // Running aggregate over every evidence ever attached, including entries spilled out of the inline list
+    private volatile Double bestConfidence;
+    private volatile String bestEvidenceDocumentId;
+
+    public void recordEvidence(Evidence candidate) {
+        if (candidate.getConfidence() != null
+                && (bestConfidence == null || candidate.getConfidence() > bestConfidence)) {
+            bestEvidenceDocumentId = candidate.getDocumentId();
+            bestConfidence = candidate.getConfidence();
+        }
+    }
 
     public enum ItemStatus {
         PENDING,
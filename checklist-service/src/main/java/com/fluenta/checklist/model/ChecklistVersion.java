@@ -0,0 +1,15 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChecklistVersion {
+    private String checklistId;
+    private String version;
+}
@@ -0,0 +1,18 @@
+package com.fluenta.checklist.model;
+
+/**
+ * Jackson views for checklist reads, selected with the {@code view} request parameter. Fields without a view
+ * annotation are left out when a view is active.
+ */
+public final class ChecklistViews {
+
+    /**
+     * Checklist name plus item id, category, requirement and status: everything a compliance report reads,
+     * without evidence or hints.
+     */
+    public interface Summary {
+    }
+
+    private ChecklistViews() {
+    }
+}
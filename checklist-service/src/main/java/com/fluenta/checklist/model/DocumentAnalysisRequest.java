@@ -0,0 +1,19 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentAnalysisRequest {
+    private String documentName;
+    private String documentText;
+    // Optional: restrict analysis to these items instead of the hint pre-filter
+    private List<String> itemIds;
+}
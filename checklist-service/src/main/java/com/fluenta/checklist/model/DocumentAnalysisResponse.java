@@ -0,0 +1,50 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentAnalysisResponse {
+    private String checklistId;
+    private String documentId;
+    private String documentName;
+    // True when identical content had been analyzed before (documentId is the content hash)
+    private Boolean duplicate;
+    private Integer candidates;
+    private Integer skipped;
+    private Integer alreadyRecorded;
+    // Match calls actually sent; the other candidates were answered from earlier analyses of the same content
+    private Integer analyzerCalls;
+    private Integer matched;
+    private Integer failed;
+    private Long elapsedMillis;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private String itemId;
+        private Outcome outcome;
+        private Double hintScore;
+        private Double confidence;
+        private ChecklistItem.ItemStatus status;
+        private String reasoning;
+        private String error;
+    }
+
+    public enum Outcome {
+        MATCHED,
+        NOT_MATCHED,
+        ALREADY_RECORDED,
+        FAILED
+    }
+}
@@ -0,0 +1,28 @@
+package com.fluenta.checklist.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Evidence analyzer's answer from /api/analyze/match.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DocumentMatchResult {
+    private Boolean matches;
+    private Double confidence;
+    @JsonProperty("relevant_sections")
+    private List<String> relevantSections;
+    private String reasoning;
+    @JsonProperty("missing_elements")
+    private List<String> missingElements;
+}
@@ -0,0 +1,24 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A document known to the registry; {@code hash} is the SHA-256 of its text and doubles as the document id that
+ * evidence refers to. The text itself is not kept.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentRecord {
+    private String hash;
+    private String documentName;
+    private Integer sizeBytes;
+    private Instant firstSeenAt;
+    private Integer uploads;
+}
@@ -0,0 +1,142 @@
+package com.fluenta.checklist.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Evidence list with amortized O(1) appends and head removals, and lock-free snapshot reads.
+ * <p>
+ * Mutations must come from one thread at a time, which the checklist's write lock guarantees. Each mutation
+ * publishes an immutable {@link Window} over a shared backing array through a volatile field. Appends only write
+ * slots past every published window's end, and head removals only move the start forward, so a reader keeps a
+ * consistent view for as long as it holds a window. Iteration, streams and serialization all read one window,
+ * so a concurrent append is either fully visible or not at all, as with a copy-on-write list, but without
+ * copying the whole list on every append. The array is reallocated only when it is full or when removed head
+ * slots make up more than half of it.
+ */
+public class EvidenceList extends AbstractList<Evidence> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile Window window;
+
+    public EvidenceList() {
+        window = new Window(new Evidence[INITIAL_CAPACITY], 0, 0);
+    }
+
+    public EvidenceList(Collection<? extends Evidence> evidence) {
+        Evidence[] elements = evidence.toArray(new Evidence[0]);
+        window = new Window(Arrays.copyOf(elements, Math.max(INITIAL_CAPACITY, elements.length)), 0, elements.length);
+    }
+
+    @Override
+    public Evidence get(int index) {
+        return window.get(index);
+    }
+
+    @Override
+    public int size() {
+        return window.size();
+    }
+
+    @Override
+    public boolean add(Evidence evidence) {
+        Window current = window;
+        Evidence[] elements = current.elements;
+        int start = current.start;
+        int end = current.end;
+        if (end == elements.length) {
+            int size = end - start;
+            elements = Arrays.copyOfRange(elements, start, start + Math.max(INITIAL_CAPACITY, size * 2));
+            start = 0;
+            end = size;
+        }
+        elements[end] = evidence;
+        window = new Window(elements, start, end + 1);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Evidence remove(int index) {
+        Window current = window;
+        Evidence removed = current.get(index);
+        if (index == 0) {
+            int start = current.start + 1;
+            Evidence[] elements = current.elements;
+            // Readers may still hold the old window, so removed head slots are left in place until compaction
+            if (start > elements.length / 2) {
+                elements = Arrays.copyOfRange(elements, start, start + elements.length);
+                window = new Window(elements, 0, current.size() - 1);
+            } else {
+                window = new Window(elements, start, current.end);
+            }
+        } else {
+            Evidence[] elements = new Evidence[Math.max(INITIAL_CAPACITY, current.size())];
+            System.arraycopy(current.elements, current.start, elements, 0, index);
+            System.arraycopy(current.elements, current.start + index + 1, elements, index, current.size() - index - 1);
+            window = new Window(elements, 0, current.size() - 1);
+        }
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        window = new Window(new Evidence[INITIAL_CAPACITY], 0, 0);
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Evidence> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<Evidence> spliterator() {
+        Window current = window;
+        return Spliterators.spliterator(current.elements, current.start, current.end,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Evidence> action) {
+        Window current = window;
+        for (int i = current.start; i < current.end; i++) {
+            action.accept(current.elements[i]);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Window current = window;
+        return Arrays.copyOfRange(current.elements, current.start, current.end, Object[].class);
+    }
+
+    @Override
+    public <T> T[] toArray(T[] target) {
+        return window.asList().toArray(target);
+    }
+
+    private record Window(Evidence[] elements, int start, int end) {
+        Evidence get(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (end - start));
+            }
+            return elements[start + index];
+        }
+
+        int size() {
+            return end - start;
+        }
+
+        List<Evidence> asList() {
+            return Arrays.asList(Arrays.copyOfRange(elements, start, end));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An item a document is worth sending to the analyzer for; {@code score} is the share of the item's hints found
+ * in the document, null for items without hints.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HintCandidate {
+    private String itemId;
+    private String requirement;
+    private Double score;
+    private Integer matchedHints;
+    private Integer occurrences;
+}
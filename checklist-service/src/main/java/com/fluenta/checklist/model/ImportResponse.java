@@ -0,0 +1,23 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResponse {
+    private Long checklists;
+    private Long evidenceApplied;
+    private Long evidenceNotFound;
+    // Sharding only: checklists and evidence records skipped because another instance owns the checklist
+    private Long checklistsNotOwned;
+    private Long evidenceNotOwned;
+    // Checklist id -> base URL of its owner, for every checklist skipped above
+    private Map<String, String> owners;
+}
@@ -0,0 +1,19 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPage {
+    private String checklistId;
+    // Full ChecklistItem objects, or only the requested fields when a projection is given
+    private List<?> items;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.fluenta.checklist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemQuery {
+    private ChecklistItem.ItemStatus status;
+    private String category;
+    private Double minConfidence;
+    private Double maxConfidence;
+    private Integer cursor;
+    private int limit;
+    private List<String> fields;
+}
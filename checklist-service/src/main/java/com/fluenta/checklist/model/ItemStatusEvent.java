@@ -0,0 +1,28 @@
+package com.fluenta.checklist.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemStatusEvent {
+    private String checklistId;
+    private String itemId;
+    private ChecklistItem.ItemStatus previousStatus;
+    private ChecklistItem.ItemStatus status;
+    private Double bestConfidence;
+    private Integer evidenceCount;
+    private Instant occurredAt;
+
+    @JsonIgnore
+    public boolean isTransition() {
+        return previousStatus != status;
+    }
+}
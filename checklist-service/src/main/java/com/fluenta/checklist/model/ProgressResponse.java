@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,4 +18,16 @@ public class ProgressResponse {
     private Integer partialItems;
     private Integer pendingItems;
     private Double completionPercentage;
+    private Map<String, CategoryProgress> categories;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryProgress {
+        private Integer totalItems;
+        private Integer completedItems;
+        private Integer partialItems;
+        private Integer pendingItems;
+    }
 }
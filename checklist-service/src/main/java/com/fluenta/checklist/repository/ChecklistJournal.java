@@ -0,0 +1,41 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Persistence hook behind {@link ChecklistRepository}. Every status update is appended to the journal before it
+ * is applied, and on startup the journal restores the repository and replays updates that happened after the
+ * last snapshot.
+ */
+public interface ChecklistJournal {
+
+    /**
+     * Records an update that is about to be applied. Must be called while the checklist's write lock is held so
+     * the journal sees updates to one checklist in the order they were applied.
+     *
+     * @return completes once the entry is durable under the configured durability policy, or exceptionally with
+     *         {@link JournalUnavailableException} if it could not be written
+     * @throws JournalUnavailableException if an earlier write failed and the journal no longer accepts entries
+     */
+    CompletableFuture<Void> append(String checklistId, String itemId, StatusUpdateRequest request);
+
+    /**
+     * Records a checklist that has just been created or replaced as a whole, under the same locking and
+     * durability rules as {@link #append(String, String, StatusUpdateRequest)}.
+     */
+    CompletableFuture<Void> appendSave(Checklist checklist);
+
+    /**
+     * Restores persisted checklists into the repository and hands every journaled update that is not already
+     * part of the restored state to {@code replay}.
+     */
+    void recover(ReplayHandler replay);
+
+    @FunctionalInterface
+    interface ReplayHandler {
+        void apply(String checklistId, String itemId, StatusUpdateRequest request);
+    }
+}
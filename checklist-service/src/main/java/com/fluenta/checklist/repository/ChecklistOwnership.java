@@ -0,0 +1,16 @@
+package com.fluenta.checklist.repository;
+
+import java.util.Optional;
+
+/**
+ * Which instance a checklist belongs to when checklists are sharded across checklist-service instances.
+ * Endpoints addressed by checklist id are redirected to the owner before they reach the service; collection
+ * endpoints (batch status, import) ask this per entry and leave other instances' checklists alone.
+ */
+public interface ChecklistOwnership {
+
+    /**
+     * @return the base URL of the instance that owns {@code checklistId}, or empty when this instance owns it
+     */
+    Optional<String> remoteOwner(String checklistId);
+}
@@ -2,21 +2,70 @@ package com.fluenta.checklist.repository;
 
 import com.fluenta.checklist.model.Checklist;
 import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.Evidence;
+import com.fluenta.checklist.model.EvidenceList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * In-memory checklist store that is safe to use from concurrent request threads.
+ * <p>
+ * Writers are serialized per checklist through {@link #update(String, Function)}, so updates to
+ * different checklists never contend. Readers take no locks: each {@link EvidenceList} publishes an
+ * immutable window on every change and item status is volatile, so serialization and progress reads
+ * always see a consistent snapshot of each item without blocking writers.
+ * <p>
+ * Each checklist also carries {@link ProgressCounters}, rebuilt on {@link #save(Checklist)} and adjusted by
+ * writers on every status transition, so progress reads never scan the item list. An {@link ItemIndex} is
+ * maintained alongside them for constant-time item lookups and status/category queries, and a {@link HintIndex}
+ * for finding the items a document's text mentions.
+ * <p>
+ * Every checklist has a version that writers bump on each change, which lets clients revalidate cached copies
+ * without transferring the checklist. Versions are prefixed with a per-process epoch so they never repeat across
+ * restarts.
+ */
 @Repository
 public class ChecklistRepository {
-    private final Map<String, Checklist> checklists = new HashMap<>();
+    private static final String DEFAULT_CHECKLIST_ID = "iso-27001-simplified";
+
+    private final ConcurrentMap<String, Checklist> checklists = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ProgressCounters> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ItemIndex> itemIndexes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, HintIndex> hintIndexes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
 
     public ChecklistRepository() {
-        initializeDefaultChecklists();
+        this("", new LocalChecklistOwnership());
+    }
+
+    /**
+     * @param seedLocation NDJSON resource the service seeds checklists from; the built-in ISO 27001 checklist is
+     *                     only created when no seed location is configured
+     * @param ownership    with sharding, the built-in checklist is only created on the instance that owns it, the
+     *                     same way seeded checklists are filtered
+     */
+    @Autowired
+    public ChecklistRepository(@Value("${checklist.seed.location:}") String seedLocation,
+                               ChecklistOwnership ownership) {
+        if (seedLocation.isBlank() && ownership.remoteOwner(DEFAULT_CHECKLIST_ID).isEmpty()) {
+            initializeDefaultChecklists();
+        }
     }
 
     private void initializeDefaultChecklists() {
         Checklist iso27001 = Checklist.builder()
-                .id("iso-27001-simplified")
+                .id(DEFAULT_CHECKLIST_ID)
                 .name("ISO 27001 Essential Controls")
                 .description("Simplified ISO 27001 compliance checklist")
                 .items(Arrays.asList(
@@ -103,7 +152,7 @@ public class ChecklistRepository {
                 ))
                 .build();
 
-        checklists.put(iso27001.getId(), iso27001);
+        save(iso27001);
     }
 
     public List<Checklist> findAll() {
@@ -115,7 +164,112 @@ public class ChecklistRepository {
     }
 
     public Checklist save(Checklist checklist) {
-        checklists.put(checklist.getId(), checklist);
-        return checklist;
+        return save(checklist, saved -> { });
+    }
+
+    /**
+     * Stores a checklist and runs {@code onSaved} before releasing the checklist's write lock.
+     */
+    public Checklist save(Checklist checklist, Consumer<Checklist> onSaved) {
+        ReentrantLock lock = lockFor(checklist.getId());
+        lock.lock();
+        try {
+            prepareForConcurrentAccess(checklist);
+            counters.put(checklist.getId(), ProgressCounters.recount(checklist));
+            itemIndexes.put(checklist.getId(), new ItemIndex(checklist));
+            hintIndexes.put(checklist.getId(), new HintIndex(checklist));
+            checklists.put(checklist.getId(), checklist);
+            bumpVersion(checklist.getId());
+            onSaved.accept(checklist);
+            return checklist;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<ChecklistItem> findItem(String checklistId, String itemId) {
+        ItemIndex index = itemIndexes.get(checklistId);
+        return index == null ? Optional.empty() : index.findItem(itemId);
+    }
+
+    public Optional<ItemIndex> findIndex(String checklistId) {
+        return Optional.ofNullable(itemIndexes.get(checklistId));
+    }
+
+    public Optional<HintIndex> findHintIndex(String checklistId) {
+        return Optional.ofNullable(hintIndexes.get(checklistId));
+    }
+
+    /**
+     * Opaque version of a checklist's current content, or empty if the checklist does not exist.
+     */
+    public Optional<String> findVersion(String checklistId) {
+        AtomicLong version = versions.get(checklistId);
+        return version == null ? Optional.empty() : Optional.of(epoch + "-" + version.get());
+    }
+
+    /**
+     * Marks a checklist as changed. Callers must hold the checklist's write lock.
+     */
+    public void bumpVersion(String checklistId) {
+        versions.computeIfAbsent(checklistId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Keeps progress counters and the status index in step with an item's status change.
+     * Callers must hold the checklist's write lock.
+     */
+    public void recordTransition(String checklistId, ChecklistItem item,
+                                 ChecklistItem.ItemStatus from, ChecklistItem.ItemStatus to) {
+        ProgressCounters checklistCounters = counters.get(checklistId);
+        if (checklistCounters != null) {
+            checklistCounters.transition(item.getCategory(), from, to);
+        }
+        ItemIndex index = itemIndexes.get(checklistId);
+        if (index != null) {
+            index.transition(item, from, to);
+        }
+    }
+
+    public Optional<ProgressCounters> findCounters(String checklistId) {
+        return Optional.ofNullable(counters.get(checklistId));
+    }
+
+    /**
+     * Applies a mutation to a stored checklist while holding that checklist's write lock.
+     * Returns empty if the checklist does not exist or the mutation returns null.
+     */
+    public <T> Optional<T> update(String checklistId, Function<Checklist, T> mutation) {
+        if (!checklists.containsKey(checklistId)) {
+            return Optional.empty();
+        }
+
+        ReentrantLock lock = lockFor(checklistId);
+        lock.lock();
+        try {
+            Checklist checklist = checklists.get(checklistId);
+            return checklist == null ? Optional.empty() : Optional.ofNullable(mutation.apply(checklist));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(String checklistId) {
+        return locks.computeIfAbsent(checklistId, id -> new ReentrantLock());
+    }
+
+    private void prepareForConcurrentAccess(Checklist checklist) {
+        if (checklist.getItems() == null) {
+            checklist.setItems(new ArrayList<>());
+        }
+        for (ChecklistItem item : checklist.getItems()) {
+            List<Evidence> evidence = item.getEvidence();
+            if (!(evidence instanceof EvidenceList)) {
+                item.setEvidence(evidence == null ? new EvidenceList() : new EvidenceList(evidence));
+            }
+            if (item.getBestConfidence() == null) {
+                item.getEvidence().forEach(item::recordEvidence);
+            }
+        }
     }
 }
@@ -0,0 +1,186 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Evidence;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Evidence archive that stores each item's history as parallel primitive columns instead of {@link Evidence}
+ * objects: confidence as {@code float}, upload time as epoch millis, and document ids, names and relevant sections
+ * as codes into dictionaries shared by all items. An archived entry costs 24 bytes of column space plus its share
+ * of the (deduplicated) strings, and the collector has a handful of arrays per item to trace rather than several
+ * objects per entry.
+ * <p>
+ * {@link Evidence} objects are only materialized when {@link #findArchived(String, String)} is called, i.e. when the
+ * archive endpoint serializes them. Confidence is kept at float precision and timestamps at millisecond precision.
+ * Enabled with {@code checklist.evidence.storage=columnar}; it only receives evidence once
+ * {@code checklist.evidence.max-inline} is set, since that is what moves older entries out of the items.
+ */
+@Repository
+@ConditionalOnProperty(name = "checklist.evidence.storage", havingValue = "columnar")
+public class ColumnarEvidenceArchive implements EvidenceArchive {
+    private static final Logger log = LoggerFactory.getLogger(ColumnarEvidenceArchive.class);
+    private static final int NULL_CODE = -1;
+    private static final long NULL_MILLIS = Long.MIN_VALUE;
+
+    private final ConcurrentMap<String, Columns> archived = new ConcurrentHashMap<>();
+    private final StringDictionary documentIds = new StringDictionary();
+    private final StringDictionary documentNames = new StringDictionary();
+    private final StringDictionary relevantSections = new StringDictionary();
+
+    public ColumnarEvidenceArchive(@Value("${checklist.evidence.max-inline:0}") int maxInlineEvidence) {
+        if (maxInlineEvidence <= 0) {
+            log.warn("Columnar evidence storage is enabled but checklist.evidence.max-inline is unlimited; "
+                    + "evidence stays inline as objects");
+        }
+    }
+
+    @Override
+    public void archive(String checklistId, String itemId, Evidence evidence) {
+        append(archived.computeIfAbsent(key(checklistId, itemId), k -> new Columns()), evidence);
+    }
+
+    @Override
+    public List<Evidence> findArchived(String checklistId, String itemId) {
+        Columns columns = archived.get(key(checklistId, itemId));
+        return columns == null ? List.of() : columns.materialize();
+    }
+
+    @Override
+    public void replace(String checklistId, String itemId, List<Evidence> evidence) {
+        if (evidence.isEmpty()) {
+            archived.remove(key(checklistId, itemId));
+            return;
+        }
+        Columns columns = new Columns();
+        evidence.forEach(entry -> append(columns, entry));
+        archived.put(key(checklistId, itemId), columns);
+    }
+
+    private void append(Columns columns, Evidence evidence) {
+        columns.append(
+                evidence.getConfidence() == null ? Float.NaN : evidence.getConfidence().floatValue(),
+                evidence.getUploadedAt() == null ? NULL_MILLIS : evidence.getUploadedAt().toEpochMilli(),
+                documentIds.encode(evidence.getDocumentId()),
+                documentNames.encode(evidence.getDocumentName()),
+                relevantSections.encode(evidence.getRelevantSections()));
+    }
+
+    /**
+     * The double whose shortest decimal form matches the float's, so 0.4f reads back as 0.4 rather than
+     * 0.4000000059604645.
+     */
+    private static double widen(float value) {
+        return Double.parseDouble(Float.toString(value));
+    }
+
+    private static String key(String checklistId, String itemId) {
+        return checklistId + '/' + itemId;
+    }
+
+    /**
+     * One item's archived evidence; rows are appended under the lock and copied out under it.
+     */
+    private final class Columns {
+        private final ReentrantLock lock = new ReentrantLock();
+        private float[] confidence = new float[4];
+        private long[] uploadedAt = new long[4];
+        private int[] documentId = new int[4];
+        private int[] documentName = new int[4];
+        private int[] sections = new int[4];
+        private int size;
+
+        private void append(float confidenceValue, long uploadedAtMillis, int documentIdCode, int documentNameCode,
+                            int sectionsCode) {
+            lock.lock();
+            try {
+                if (size == confidence.length) {
+                    int capacity = size + (size >> 1);
+                    confidence = Arrays.copyOf(confidence, capacity);
+                    uploadedAt = Arrays.copyOf(uploadedAt, capacity);
+                    documentId = Arrays.copyOf(documentId, capacity);
+                    documentName = Arrays.copyOf(documentName, capacity);
+                    sections = Arrays.copyOf(sections, capacity);
+                }
+                confidence[size] = confidenceValue;
+                uploadedAt[size] = uploadedAtMillis;
+                documentId[size] = documentIdCode;
+                documentName[size] = documentNameCode;
+                sections[size] = sectionsCode;
+                size++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<Evidence> materialize() {
+            lock.lock();
+            try {
+                List<Evidence> evidence = new ArrayList<>(size);
+                for (int row = 0; row < size; row++) {
+                    evidence.add(Evidence.builder()
+                            .documentId(documentIds.decode(documentId[row]))
+                            .documentName(documentNames.decode(documentName[row]))
+                            .confidence(Float.isNaN(confidence[row]) ? null : widen(confidence[row]))
+                            .uploadedAt(uploadedAt[row] == NULL_MILLIS ? null : Instant.ofEpochMilli(uploadedAt[row]))
+                            .relevantSections(relevantSections.decode(sections[row]))
+                            .build());
+                }
+                return evidence;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Append-only string-to-code dictionary. Encoding an already known string is a single map read.
+     */
+    private static final class StringDictionary {
+        private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile String[] values = new String[64];
+
+        private int encode(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            lock.lock();
+            try {
+                code = codes.get(value);
+                if (code == null) {
+                    code = codes.size();
+                    String[] current = values;
+                    if (code == current.length) {
+                        current = Arrays.copyOf(current, current.length * 2);
+                    }
+                    current[code] = value;
+                    values = current;
+                    codes.put(value, code);
+                }
+                return code;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private String decode(int code) {
+            return code == NULL_CODE ? null : values[code];
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.DocumentMatchRequest;
+import com.fluenta.checklist.model.DocumentMatchResult;
+import com.fluenta.checklist.model.DocumentRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed registry of analyzed documents.
+ * <p>
+ * Documents are identified by the SHA-256 of their text, so the same policy uploaded twice (under any name, to any
+ * checklist) resolves to one {@link DocumentRecord}, and evidence only carries the shared hash and name instances.
+ * Analyzer match results are memoized per (document hash, requirement and hints) pair: an identical document is
+ * never sent to the analyzer twice for the same requirement, and concurrent requests for the same pair share one
+ * call. Match results are evicted least-recently-used beyond {@code checklist.documents.match-cache.max-entries};
+ * failed calls are not cached.
+ */
+@Repository
+public class DocumentRegistry {
+    private final ConcurrentMap<String, DocumentRecord> documents = new ConcurrentHashMap<>();
+    private final int maxMatchEntries;
+
+    private final ReentrantLock matchLock = new ReentrantLock();
+    private final LinkedHashMap<String, DocumentMatchResult> matches = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<String, CompletableFuture<DocumentMatchResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong matchHits = new AtomicLong();
+    private final AtomicLong matchMisses = new AtomicLong();
+
+    public DocumentRegistry(@Value("${checklist.documents.match-cache.max-entries:100000}") int maxMatchEntries) {
+        this.maxMatchEntries = maxMatchEntries;
+    }
+
+    /**
+     * Registers {@code documentText}, or counts another upload of it when the same content was seen before.
+     */
+    public Registration register(String documentText, String documentName) {
+        byte[] content = documentText.getBytes(StandardCharsets.UTF_8);
+        String hash = sha256(content);
+        boolean[] created = new boolean[1];
+        DocumentRecord record = documents.compute(hash, (key, existing) -> {
+            if (existing != null) {
+                existing.setUploads(existing.getUploads() + 1);
+                return existing;
+            }
+            created[0] = true;
+            return DocumentRecord.builder()
+                    .hash(key)
+                    .documentName(documentName)
+                    .sizeBytes(content.length)
+                    .firstSeenAt(Instant.now())
+                    .uploads(1)
+                    .build();
+        });
+        return new Registration(record, !created[0]);
+    }
+
+    public Optional<DocumentRecord> find(String hash) {
+        return Optional.ofNullable(documents.get(hash));
+    }
+
+    /**
+     * Returns the memoized answer or starts {@code loader}; callers racing on the same pair get the same future.
+     */
+    public CompletableFuture<DocumentMatchResult> match(String documentHash, DocumentMatchRequest request,
+                                                        Supplier<CompletableFuture<DocumentMatchResult>> loader) {
+        String key = matchKey(documentHash, request);
+        Optional<DocumentMatchResult> cached = findMatch(key);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        CompletableFuture<DocumentMatchResult> promise = new CompletableFuture<>();
+        CompletableFuture<DocumentMatchResult> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            matchHits.incrementAndGet();
+            return existing;
+        }
+
+        matchMisses.incrementAndGet();
+        CompletableFuture<DocumentMatchResult> upstream;
+        try {
+            upstream = loader.get();
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((result, error) -> {
+            if (error == null && result != null) {
+                storeMatch(key, result);
+            }
+            inFlight.remove(key, promise);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(result);
+            }
+        });
+        return promise;
+    }
+
+    public int getDocumentCount() {
+        return documents.size();
+    }
+
+    public long getMatchHits() {
+        return matchHits.get();
+    }
+
+    public long getMatchMisses() {
+        return matchMisses.get();
+    }
+
+    private Optional<DocumentMatchResult> findMatch(String key) {
+        matchLock.lock();
+        try {
+            DocumentMatchResult result = matches.get(key);
+            if (result != null) {
+                matchHits.incrementAndGet();
+            }
+            return Optional.ofNullable(result);
+        } finally {
+            matchLock.unlock();
+        }
+    }
+
+    private void storeMatch(String key, DocumentMatchResult result) {
+        matchLock.lock();
+        try {
+            matches.put(key, result);
+            Iterator<String> eldest = matches.keySet().iterator();
+            while (matches.size() > maxMatchEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            matchLock.unlock();
+        }
+    }
+
+    /**
+     * The document hash plus a digest of what the analyzer is asked about it; hint order does not matter.
+     */
+    static String matchKey(String documentHash, DocumentMatchRequest request) {
+        List<String> hints = request.getHints() == null ? new ArrayList<>() : new ArrayList<>(request.getHints());
+        Collections.sort(hints);
+        StringBuilder canonical = new StringBuilder(String.valueOf(request.getRequirement()));
+        for (String hint : hints) {
+            canonical.append('\u0000').append(hint);
+        }
+        return documentHash + ":" + sha256(canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @param duplicate whether identical content had already been registered
+     */
+    public record Registration(DocumentRecord document, boolean duplicate) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Evidence;
+
+import java.util.List;
+
+/**
+ * Secondary store for evidence that no longer fits in an item's inline evidence list.
+ */
+public interface EvidenceArchive {
+
+    void archive(String checklistId, String itemId, Evidence evidence);
+
+    List<Evidence> findArchived(String checklistId, String itemId);
+
+    /**
+     * Replaces an item's archived evidence, oldest first. Used when a snapshot is restored, so whatever was
+     * archived before the restore (e.g. while seeding) is not kept twice.
+     */
+    void replace(String checklistId, String itemId, List<Evidence> evidence);
+}
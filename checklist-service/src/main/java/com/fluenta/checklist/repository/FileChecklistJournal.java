@@ -0,0 +1,489 @@
+package com.fluenta.checklist.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.Evidence;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Append-only write-ahead log with periodic snapshots, stored under {@code checklist.persistence.directory}.
+ * <p>
+ * Request threads serialize entries and hand them to a single writer thread, which writes whatever has queued
+ * up in one batch and fsyncs once per batch (group commit). With {@code checklist.persistence.durability=sync}
+ * (the default) each append returns a future that completes after its batch's fsync, and the service holds the
+ * response until then; {@code async} completes it on enqueue, trading the last few milliseconds of updates on a
+ * crash for latency. If a write or fsync fails the journal fails that batch and everything queued behind it and
+ * rejects all later appends with {@link JournalUnavailableException}, so the log never has a gap. Snapshots rotate
+ * the journal to a new segment, copy each checklist under its write lock together with the sequence number of
+ * the last update applied to it, and then delete the segments the snapshot covers. Recovery loads the snapshot
+ * and replays only entries newer than each checklist's snapshot sequence.
+ * <p>
+ * Evidence moved out of the items by {@code checklist.evidence.max-inline} is copied into the snapshot with its
+ * checklist and put back into the {@link EvidenceArchive} on recovery; replayed updates archive their overflow
+ * again as they are applied.
+ */
+@Component
+@ConditionalOnProperty(name = "checklist.persistence.enabled", havingValue = "true")
+public class FileChecklistJournal implements ChecklistJournal {
+    private static final Logger log = LoggerFactory.getLogger(FileChecklistJournal.class);
+
+    private static final String SNAPSHOT_FILE = "snapshot.ndjson";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_BATCH = 4096;
+    private static final Object STOP = new Object();
+    private static final long ROTATE_TIMEOUT_SECONDS = 30;
+    private static final long CLOSE_TIMEOUT_MILLIS = 30_000;
+    private static final CompletableFuture<Void> ACCEPTED = CompletableFuture.completedFuture(null);
+
+    private final ChecklistRepository repository;
+    private final EvidenceArchive evidenceArchive;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long snapshotIntervalSeconds;
+    private final boolean syncCommit;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<String, Long> lastSequenceByChecklist = new ConcurrentHashMap<>();
+    private final BlockingQueue<Object> pending;
+    private final ScheduledExecutorService snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> daemon(runnable, "checklist-journal-snapshot"));
+
+    private volatile FileChannel segment;
+    private volatile Path segmentPath;
+    private volatile IOException failure;
+    private Thread writer;
+
+    public FileChecklistJournal(ChecklistRepository repository,
+                                EvidenceArchive evidenceArchive,
+                                ObjectMapper objectMapper,
+                                @Value("${checklist.persistence.directory:./data}") String directory,
+                                @Value("${checklist.persistence.snapshot-interval-seconds:300}") long snapshotIntervalSeconds,
+                                @Value("${checklist.persistence.queue-capacity:65536}") int queueCapacity,
+                                @Value("${checklist.persistence.durability:sync}") String durability) {
+        this.repository = repository;
+        this.evidenceArchive = evidenceArchive;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.snapshotIntervalSeconds = snapshotIntervalSeconds;
+        this.syncCommit = !"async".equalsIgnoreCase(durability);
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public CompletableFuture<Void> append(String checklistId, String itemId, StatusUpdateRequest request) {
+        return write(new JournalEntry(0, checklistId, itemId, request, null));
+    }
+
+    @Override
+    public CompletableFuture<Void> appendSave(Checklist checklist) {
+        return write(new JournalEntry(0, checklist.getId(), null, null, checklist));
+    }
+
+    @Override
+    public void recover(ReplayHandler replay) {
+        try {
+            Files.createDirectories(directory);
+            long startedAt = System.nanoTime();
+            Map<String, Long> snapshotSequence = loadSnapshot();
+            long replayed = replaySegments(snapshotSequence, replay);
+
+            openSegment(sequence.get() + 1);
+            startWriter();
+            if (snapshotIntervalSeconds > 0) {
+                snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly,
+                        snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+            }
+
+            log.info("Recovered {} checklists and replayed {} journal entries in {} ms",
+                    snapshotSequence.size(), replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover checklist journal from " + directory, e);
+        }
+    }
+
+    /**
+     * Writes a compact snapshot of every checklist and drops the journal segments it makes redundant.
+     */
+    public void snapshot() throws IOException {
+        List<Path> coveredSegments = rotate();
+
+        Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Checklist listed : repository.findAll()) {
+                byte[] line = repository.update(listed.getId(), checklist -> {
+                    long lastSeq = lastSequenceByChecklist.getOrDefault(checklist.getId(), 0L);
+                    try {
+                        return toLine(new SnapshotEntry(lastSeq, checklist, archivedEvidence(checklist)));
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("Failed to serialize checklist " + checklist.getId(), e);
+                    }
+                }).orElse(null);
+                if (line != null) {
+                    writeFully(out, ByteBuffer.wrap(line));
+                }
+            }
+            out.force(true);
+        }
+        Files.move(tmp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (Path covered : coveredSegments) {
+            Files.deleteIfExists(covered);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        snapshotScheduler.shutdownNow();
+        if (writer == null) {
+            return;
+        }
+        enqueue(STOP);
+        writer.join(CLOSE_TIMEOUT_MILLIS);
+        if (writer.isAlive()) {
+            log.warn("Checklist journal writer did not stop within {} ms", CLOSE_TIMEOUT_MILLIS);
+        }
+        segment.close();
+    }
+
+    private Map<String, Long> loadSnapshot() throws IOException {
+        Map<String, Long> snapshotSequence = new HashMap<>();
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return snapshotSequence;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(snapshot, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                SnapshotEntry entry = objectMapper.readValue(line, SnapshotEntry.class);
+                repository.save(entry.getChecklist());
+                restoreArchivedEvidence(entry);
+                snapshotSequence.put(entry.getChecklist().getId(), entry.getLastSequence());
+                lastSequenceByChecklist.put(entry.getChecklist().getId(), entry.getLastSequence());
+                sequence.accumulateAndGet(entry.getLastSequence(), Math::max);
+            }
+        }
+        return snapshotSequence;
+    }
+
+    /**
+     * The archived evidence of each of a checklist's items that has any. Called under the checklist's write lock,
+     * which is also held while evidence is archived.
+     */
+    private Map<String, List<Evidence>> archivedEvidence(Checklist checklist) {
+        Map<String, List<Evidence>> archived = new LinkedHashMap<>();
+        for (ChecklistItem item : checklist.getItems()) {
+            List<Evidence> evidence = evidenceArchive.findArchived(checklist.getId(), item.getId());
+            if (!evidence.isEmpty()) {
+                archived.put(item.getId(), evidence);
+            }
+        }
+        return archived.isEmpty() ? null : archived;
+    }
+
+    private void restoreArchivedEvidence(SnapshotEntry entry) {
+        Map<String, List<Evidence>> archived = entry.getArchivedEvidence() == null
+                ? Map.of() : entry.getArchivedEvidence();
+        for (ChecklistItem item : entry.getChecklist().getItems()) {
+            evidenceArchive.replace(entry.getChecklist().getId(), item.getId(),
+                    archived.getOrDefault(item.getId(), List.of()));
+        }
+    }
+
+    private long replaySegments(Map<String, Long> snapshotSequence, ReplayHandler replay) throws IOException {
+        long replayed = 0;
+        for (Path path : listSegments()) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JournalEntry entry;
+                    try {
+                        entry = objectMapper.readValue(line, JournalEntry.class);
+                    } catch (JsonProcessingException e) {
+                        // A torn write at the tail of a segment is expected after a crash
+                        log.warn("Skipping unreadable journal entry in {}: {}", path.getFileName(), e.getOriginalMessage());
+                        continue;
+                    }
+
+                    sequence.accumulateAndGet(entry.getSequence(), Math::max);
+                    if (entry.getSequence() <= snapshotSequence.getOrDefault(entry.getChecklistId(), 0L)) {
+                        continue;
+                    }
+                    if (entry.getChecklist() != null) {
+                        repository.save(entry.getChecklist());
+                    } else {
+                        replay.apply(entry.getChecklistId(), entry.getItemId(), entry.getRequest());
+                    }
+                    lastSequenceByChecklist.merge(entry.getChecklistId(), entry.getSequence(), Math::max);
+                    replayed++;
+                }
+            }
+        }
+        return replayed;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Asks the writer thread to switch to a fresh segment and returns every older segment. Everything in those
+     * segments was applied before the rotation, so a snapshot started afterwards includes all of it.
+     */
+    private List<Path> rotate() throws IOException {
+        CompletableFuture<Path> rotated = new CompletableFuture<>();
+        enqueue(rotated);
+        Path current;
+        try {
+            current = rotated.get(ROTATE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("Journal writer did not rotate the segment within " + ROTATE_TIMEOUT_SECONDS + " s", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Journal writer failed to rotate the segment", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while rotating the checklist journal");
+        }
+        List<Path> covered = new ArrayList<>(listSegments());
+        covered.remove(current);
+        return covered;
+    }
+
+    private CompletableFuture<Void> write(JournalEntry entry) {
+        IOException failed = failure;
+        if (failed != null) {
+            throw unavailable(failed);
+        }
+
+        entry.setSequence(sequence.incrementAndGet());
+        lastSequenceByChecklist.put(entry.getChecklistId(), entry.getSequence());
+        byte[] line;
+        try {
+            line = toLine(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize journal entry " + entry.getSequence(), e);
+        }
+
+        CompletableFuture<Void> durable = syncCommit ? new CompletableFuture<>() : null;
+        enqueue(new PendingLine(line, durable));
+        return durable == null ? ACCEPTED : durable;
+    }
+
+    private void startWriter() {
+        writer = daemon(this::writeLoop, "checklist-journal-writer");
+        writer.start();
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH);
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(pending.take());
+                pending.drainTo(batch, MAX_BATCH - 1);
+                stopping = failure == null ? flush(batch) : reject(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                // Continuing after a failed write would leave a hole in the log, so stop accepting updates instead
+                log.error("Failed to write checklist journal segment {}; rejecting further updates", segmentPath, e);
+                failure = e;
+                stopping = reject(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes one batch, fsyncs it and completes the durability futures of its lines. Returns true once the stop
+     * marker has been reached.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean flush(List<Object> batch) throws IOException {
+        List<ByteBuffer> lines = new ArrayList<>(batch.size());
+        List<CompletableFuture<Void>> committed = syncCommit ? new ArrayList<>(batch.size()) : List.of();
+        for (Object item : batch) {
+            if (item instanceof PendingLine line) {
+                lines.add(ByteBuffer.wrap(line.bytes()));
+                if (line.durable() != null) {
+                    committed.add(line.durable());
+                }
+            } else if (item == STOP) {
+                commit(lines, committed);
+                return true;
+            } else {
+                commit(lines, committed);
+                Path previous = segmentPath;
+                segment.close();
+                openSegment(sequence.get() + 1);
+                log.debug("Rotated journal segment {} -> {}", previous.getFileName(), segmentPath.getFileName());
+                ((CompletableFuture<Path>) item).complete(segmentPath);
+            }
+        }
+        commit(lines, committed);
+        return false;
+    }
+
+    private void commit(List<ByteBuffer> lines, List<CompletableFuture<Void>> committed) throws IOException {
+        writeAndSync(lines);
+        lines.clear();
+        if (!committed.isEmpty()) {
+            committed.forEach(durable -> durable.complete(null));
+            committed.clear();
+        }
+    }
+
+    /**
+     * Fails every line and rotation in a batch after a write error. Lines of the batch that were already synced
+     * have completed, so failing them again is a no-op. Returns true once the stop marker has been reached.
+     */
+    private boolean reject(List<Object> batch) {
+        JournalUnavailableException error = unavailable(failure);
+        for (Object item : batch) {
+            if (item == STOP) {
+                return true;
+            } else if (item instanceof PendingLine line) {
+                if (line.durable() != null) {
+                    line.durable().completeExceptionally(error);
+                }
+            } else {
+                ((CompletableFuture<?>) item).completeExceptionally(error);
+            }
+        }
+        return false;
+    }
+
+    private JournalUnavailableException unavailable(IOException cause) {
+        return new JournalUnavailableException("Checklist journal " + directory + " failed to write; updates are rejected", cause);
+    }
+
+    private void writeAndSync(List<ByteBuffer> lines) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] buffers = lines.toArray(new ByteBuffer[0]);
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= segment.write(buffers);
+        }
+        segment.force(false);
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        segmentPath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void enqueue(Object item) {
+        try {
+            pending.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while appending to checklist journal", e);
+        }
+    }
+
+    private byte[] toLine(Object value) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(value);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.error("Failed to write checklist snapshot", e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * A serialized entry waiting for the writer, with the future to complete once it is synced (null in async mode).
+     */
+    private record PendingLine(byte[] bytes, CompletableFuture<Void> durable) {
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class JournalEntry {
+        private long sequence;
+        private String checklistId;
+        private String itemId;
+        private StatusUpdateRequest request;
+        private Checklist checklist;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class SnapshotEntry {
+        private long lastSequence;
+        private Checklist checklist;
+        // Item id -> evidence archived for that item, oldest first; null when nothing was archived
+        private Map<String, List<Evidence>> archivedEvidence;
+    }
+}
@@ -0,0 +1,230 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over the hints of one checklist's items, built once when the checklist is saved.
+ * <p>
+ * {@link #scan(CharSequence)} reads a document once, case-insensitively, and reports which items had hints
+ * occur in it, however many hints the checklist has. Hints match as substrings, the same rule the analyzer
+ * prompt relies on.
+ * <p>
+ * Every checklist keeps its own automaton, so transitions are stored compactly: each node's edges are a sorted
+ * slice of two shared arrays, searched by binary search, and misses follow failure links. That costs roughly 25
+ * bytes per hint character. Only the shallowest nodes, where a scan over prose spends most of its steps, get
+ * dense ASCII rows with failures resolved, and at most {@value #MAX_DENSE_ROWS} of them (32 KB).
+ */
+public class HintIndex {
+    private static final int ASCII = 128;
+    private static final int MAX_DENSE_ROWS = 64;
+
+    private final List<ChecklistItem> items;
+    private final int[] hintCountByItem;
+    private final int[][] itemsByHint;
+
+    // Nodes are numbered breadth-first, so the nodes below denseRows are the shallowest and have dense ASCII rows
+    private final int[] denseNext;
+    private final int denseRows;
+    // Edges of node n are edgeChars/edgeTargets[edgeStart[n] .. edgeStart[n + 1]), sorted by character
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] terminalHint;
+    private final int[] dictionaryLink;
+
+    public HintIndex(Checklist checklist) {
+        this.items = checklist.getItems();
+        this.hintCountByItem = new int[items.size()];
+
+        Map<String, List<Integer>> positionsByHint = new LinkedHashMap<>();
+        for (int position = 0; position < items.size(); position++) {
+            List<String> hints = items.get(position).getHints();
+            if (hints == null) {
+                continue;
+            }
+            Set<String> distinct = new HashSet<>();
+            for (String hint : hints) {
+                if (hint != null && !hint.isBlank() && distinct.add(hint.toLowerCase(Locale.ROOT))) {
+                    positionsByHint.computeIfAbsent(hint.toLowerCase(Locale.ROOT), h -> new ArrayList<>()).add(position);
+                }
+            }
+            hintCountByItem[position] = distinct.size();
+        }
+
+        List<String> hints = new ArrayList<>(positionsByHint.keySet());
+        this.itemsByHint = new int[hints.size()][];
+        int maxNodes = 1;
+        int maxLength = 0;
+        for (int hintId = 0; hintId < hints.size(); hintId++) {
+            itemsByHint[hintId] = positionsByHint.get(hints.get(hintId)).stream().mapToInt(Integer::intValue).toArray();
+            maxNodes += hints.get(hintId).length();
+            maxLength = Math.max(maxLength, hints.get(hintId).length());
+        }
+
+        // Build the trie one depth at a time with (node, character) keys, so nodes are numbered breadth-first,
+        // then lay the edges out node by node
+        Map<Long, Integer> trie = new HashMap<>();
+        int[] terminal = new int[maxNodes];
+        Arrays.fill(terminal, -1);
+        int[] reached = new int[hints.size()];
+        int nodes = 1;
+        for (int depth = 0; depth < maxLength; depth++) {
+            for (int hintId = 0; hintId < hints.size(); hintId++) {
+                String hint = hints.get(hintId);
+                if (depth >= hint.length()) {
+                    continue;
+                }
+                Integer child = trie.get(key(reached[hintId], hint.charAt(depth)));
+                if (child == null) {
+                    child = nodes++;
+                    trie.put(key(reached[hintId], hint.charAt(depth)), child);
+                }
+                reached[hintId] = child;
+                if (depth == hint.length() - 1) {
+                    terminal[child] = hintId;
+                }
+            }
+        }
+
+        long[] keys = trie.keySet().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(keys);
+        this.edgeStart = new int[nodes + 1];
+        this.edgeChars = new char[keys.length];
+        this.edgeTargets = new int[keys.length];
+        for (int edge = 0; edge < keys.length; edge++) {
+            edgeStart[(int) (keys[edge] >>> 16) + 1]++;
+            edgeChars[edge] = (char) (keys[edge] & 0xFFFF);
+            edgeTargets[edge] = trie.get(keys[edge]);
+        }
+        for (int node = 0; node < nodes; node++) {
+            edgeStart[node + 1] += edgeStart[node];
+        }
+
+        this.terminalHint = Arrays.copyOf(terminal, nodes);
+        this.fail = new int[nodes];
+        this.dictionaryLink = new int[nodes];
+        link(nodes);
+
+        // Each row is resolved through the rows of shallower nodes, which are complete by then
+        this.denseRows = Math.min(MAX_DENSE_ROWS, nodes);
+        this.denseNext = new int[denseRows * ASCII];
+        for (int row = 0; row < denseRows; row++) {
+            for (char c = 0; c < ASCII; c++) {
+                denseNext[row * ASCII + c] = step(row, c, row);
+            }
+        }
+    }
+
+    /**
+     * Items with at least one hint occurring in {@code text}, highest score first. The score is the share of the
+     * item's distinct hints that occur; items without hints are never returned.
+     */
+    public List<Match> scan(CharSequence text) {
+        int[] occurrencesByHint = new int[itemsByHint.length];
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = lowerCase(text.charAt(i));
+            state = state < denseRows && c < ASCII ? denseNext[state * ASCII + c] : step(state, c, denseRows);
+            int node = terminalHint[state] >= 0 ? state : dictionaryLink[state];
+            while (node > 0) {
+                occurrencesByHint[terminalHint[node]]++;
+                node = dictionaryLink[node];
+            }
+        }
+
+        int[] matchedHints = new int[items.size()];
+        int[] occurrences = new int[items.size()];
+        for (int hintId = 0; hintId < occurrencesByHint.length; hintId++) {
+            if (occurrencesByHint[hintId] == 0) {
+                continue;
+            }
+            for (int position : itemsByHint[hintId]) {
+                matchedHints[position]++;
+                occurrences[position] += occurrencesByHint[hintId];
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int position = 0; position < items.size(); position++) {
+            if (matchedHints[position] > 0) {
+                matches.add(new Match(items.get(position), matchedHints[position], occurrences[position],
+                        (double) matchedHints[position] / hintCountByItem[position]));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches;
+    }
+
+    /**
+     * Computes failure and dictionary links in node order. Nodes are numbered breadth-first and a failure link
+     * always points to a shallower node, so it is final before any node that needs it.
+     */
+    private void link(int nodes) {
+        for (int node = 0; node < nodes; node++) {
+            if (node > 0) {
+                dictionaryLink[node] = terminalHint[fail[node]] >= 0 ? fail[node] : dictionaryLink[fail[node]];
+            }
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                fail[edgeTargets[edge]] = node == 0 ? 0 : step(fail[node], edgeChars[edge], 0);
+            }
+        }
+    }
+
+    /**
+     * Follows failure links from {@code state} until {@code c} has a transition, using the dense rows of the
+     * first {@code rows} nodes.
+     */
+    private int step(int state, char c, int rows) {
+        while (true) {
+            if (state < rows && c < ASCII) {
+                return denseNext[state * ASCII + c];
+            }
+            int next = child(state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int child(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char edgeChar = edgeChars[middle];
+            if (edgeChar < c) {
+                low = middle + 1;
+            } else if (edgeChar > c) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return -1;
+    }
+
+    private static long key(int node, char c) {
+        return ((long) node << 16) | c;
+    }
+
+    private static char lowerCase(char c) {
+        if (c < ASCII) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * An item whose hints occur in the scanned text.
+     */
+    public record Match(ChecklistItem item, int matchedHints, int occurrences, double score) {
+    }
+}
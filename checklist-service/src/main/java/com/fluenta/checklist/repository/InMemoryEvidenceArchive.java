@@ -0,0 +1,42 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Evidence;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+@Repository
+@ConditionalOnProperty(name = "checklist.evidence.storage", havingValue = "objects", matchIfMissing = true)
+public class InMemoryEvidenceArchive implements EvidenceArchive {
+    private final ConcurrentMap<String, Queue<Evidence>> archived = new ConcurrentHashMap<>();
+
+    @Override
+    public void archive(String checklistId, String itemId, Evidence evidence) {
+        archived.computeIfAbsent(key(checklistId, itemId), k -> new ConcurrentLinkedQueue<>()).add(evidence);
+    }
+
+    @Override
+    public List<Evidence> findArchived(String checklistId, String itemId) {
+        Queue<Evidence> evidence = archived.get(key(checklistId, itemId));
+        return evidence == null ? List.of() : new ArrayList<>(evidence);
+    }
+
+    @Override
+    public void replace(String checklistId, String itemId, List<Evidence> evidence) {
+        if (evidence.isEmpty()) {
+            archived.remove(key(checklistId, itemId));
+        } else {
+            archived.put(key(checklistId, itemId), new ConcurrentLinkedQueue<>(evidence));
+        }
+    }
+
+    private static String key(String checklistId, String itemId) {
+        return checklistId + '/' + itemId;
+    }
+}
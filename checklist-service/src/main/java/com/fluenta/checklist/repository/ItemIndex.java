@@ -0,0 +1,145 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.ItemQuery;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Lookup structures over one checklist's items, keyed by item position in {@link Checklist#getItems()}.
+ * <p>
+ * The id and category indexes are fixed once the checklist is saved. The status index is adjusted on every
+ * status transition while the checklist's write lock is held and is safe to read concurrently. Positions are
+ * stable, which makes them usable as pagination cursors.
+ */
+public class ItemIndex {
+    private final List<ChecklistItem> items;
+    private final Map<String, Integer> positionsById;
+    private final Map<String, int[]> positionsByCategory;
+    private final EnumMap<ChecklistItem.ItemStatus, NavigableSet<Integer>> positionsByStatus =
+            new EnumMap<>(ChecklistItem.ItemStatus.class);
+
+    public ItemIndex(Checklist checklist) {
+        this.items = checklist.getItems();
+        this.positionsById = new HashMap<>(items.size() * 2);
+
+        Map<String, List<Integer>> byCategory = new HashMap<>();
+        for (ChecklistItem.ItemStatus status : ChecklistItem.ItemStatus.values()) {
+            positionsByStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+
+        for (int position = 0; position < items.size(); position++) {
+            ChecklistItem item = items.get(position);
+            positionsById.putIfAbsent(item.getId(), position);
+            if (item.getCategory() != null) {
+                byCategory.computeIfAbsent(item.getCategory(), c -> new ArrayList<>()).add(position);
+            }
+            if (item.getStatus() != null) {
+                positionsByStatus.get(item.getStatus()).add(position);
+            }
+        }
+
+        this.positionsByCategory = new HashMap<>(byCategory.size() * 2);
+        byCategory.forEach((category, positions) ->
+                positionsByCategory.put(category, positions.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public Optional<ChecklistItem> findItem(String itemId) {
+        Integer position = positionsById.get(itemId);
+        return position == null ? Optional.empty() : Optional.of(items.get(position));
+    }
+
+    public void transition(ChecklistItem item, ChecklistItem.ItemStatus from, ChecklistItem.ItemStatus to) {
+        Integer position = positionsById.get(item.getId());
+        if (position == null || from == to) {
+            return;
+        }
+        if (from != null) {
+            positionsByStatus.get(from).remove(position);
+        }
+        if (to != null) {
+            positionsByStatus.get(to).add(position);
+        }
+    }
+
+    /**
+     * Returns up to {@code query.limit} matching items starting at position {@code query.cursor}.
+     * Status and category filters are served from the indexes; when both are given the category positions
+     * drive the walk and status is checked per item. The confidence range is checked per candidate.
+     */
+    public Page query(ItemQuery query) {
+        int from = Math.max(0, query.getCursor() == null ? 0 : query.getCursor());
+        int limit = query.getLimit();
+
+        Iterator<Integer> candidates;
+        Predicate<ChecklistItem> filter = item -> matchesConfidence(item, query);
+        if (query.getCategory() != null) {
+            candidates = categoryPositions(query.getCategory(), from);
+            if (query.getStatus() != null) {
+                filter = filter.and(item -> item.getStatus() == query.getStatus());
+            }
+        } else if (query.getStatus() != null) {
+            candidates = positionsByStatus.get(query.getStatus()).tailSet(from, true).iterator();
+        } else {
+            candidates = allPositions(from);
+        }
+
+        List<ChecklistItem> page = new ArrayList<>(Math.min(limit, items.size()));
+        while (candidates.hasNext()) {
+            int position = candidates.next();
+            ChecklistItem item = items.get(position);
+            if (!filter.test(item)) {
+                continue;
+            }
+            if (page.size() == limit) {
+                return new Page(page, position);
+            }
+            page.add(item);
+        }
+        return new Page(page, null);
+    }
+
+    private Iterator<Integer> categoryPositions(String category, int from) {
+        int[] positions = positionsByCategory.getOrDefault(category, new int[0]);
+        int start = Arrays.binarySearch(positions, from);
+        int first = start >= 0 ? start : -start - 1;
+        return Arrays.stream(positions, first, positions.length).iterator();
+    }
+
+    private Iterator<Integer> allPositions(int from) {
+        return new Iterator<>() {
+            private int next = from;
+
+            @Override
+            public boolean hasNext() {
+                return next < items.size();
+            }
+
+            @Override
+            public Integer next() {
+                return next++;
+            }
+        };
+    }
+
+    private static boolean matchesConfidence(ChecklistItem item, ItemQuery query) {
+        if (query.getMinConfidence() == null && query.getMaxConfidence() == null) {
+            return true;
+        }
+        Double confidence = item.getBestConfidence();
+        if (confidence == null) {
+            return false;
+        }
+        return (query.getMinConfidence() == null || confidence >= query.getMinConfidence())
+                && (query.getMaxConfidence() == null || confidence <= query.getMaxConfidence());
+    }
+
+    /**
+     * One page of items; {@code nextPosition} is the cursor for the following page, or null on the last page.
+     */
+    public record Page(List<ChecklistItem> items, Integer nextPosition) {
+    }
+}
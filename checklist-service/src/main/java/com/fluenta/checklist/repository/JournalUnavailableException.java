@@ -0,0 +1,15 @@
+package com.fluenta.checklist.repository;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The journal failed to write and no longer accepts entries, so updates cannot be made durable.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class JournalUnavailableException extends IllegalStateException {
+
+    public JournalUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fluenta.checklist.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Default ownership when sharding is disabled: this instance owns every checklist.
+ */
+@Component
+@ConditionalOnProperty(name = "checklist.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalChecklistOwnership implements ChecklistOwnership {
+
+    @Override
+    public Optional<String> remoteOwner(String checklistId) {
+        return Optional.empty();
+    }
+}
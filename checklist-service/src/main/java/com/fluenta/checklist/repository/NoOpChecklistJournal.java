@@ -0,0 +1,32 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default journal used when persistence is disabled; state lives only in memory.
+ */
+@Component
+@ConditionalOnProperty(name = "checklist.persistence.enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpChecklistJournal implements ChecklistJournal {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    @Override
+    public CompletableFuture<Void> append(String checklistId, String itemId, StatusUpdateRequest request) {
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> appendSave(Checklist checklist) {
+        return DONE;
+    }
+
+    @Override
+    public void recover(ReplayHandler replay) {
+    }
+}
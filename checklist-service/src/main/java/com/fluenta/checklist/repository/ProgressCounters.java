@@ -0,0 +1,139 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.ProgressResponse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Per-checklist status counters, overall and per category, indexed by {@link ChecklistItem.ItemStatus} ordinal.
+ * <p>
+ * Counters are adjusted on every status transition while the checklist's write lock is held. The categories,
+ * their sorted order and each one's slot in the counter array are fixed when the counters are built, since a
+ * checklist's items only change on save, which rebuilds them. {@link #progress()} therefore loads the counters
+ * in that order without sorting or map lookups, and hands out the same response until the next transition, so
+ * a read between writes is O(1) and allocation-free. Items with a null status are not counted.
+ */
+public class ProgressCounters {
+    private static final int STATUS_COUNT = ChecklistItem.ItemStatus.values().length;
+    private static final int COMPLETED = ChecklistItem.ItemStatus.COMPLETED.ordinal();
+    private static final int PARTIAL = ChecklistItem.ItemStatus.PARTIAL.ordinal();
+    private static final int PENDING = ChecklistItem.ItemStatus.PENDING.ordinal();
+
+    private final String checklistId;
+    private final int totalItems;
+    // Sorted; category i is counted in row i + 1 of counts, row 0 holds the overall counts
+    private final String[] categories;
+    private final Map<String, Integer> rowByCategory = new HashMap<>();
+    private final AtomicIntegerArray counts;
+    // Bumped after every transition; a built response is handed out until this moves on
+    private final AtomicInteger changes = new AtomicInteger();
+    private volatile Built built;
+
+    private ProgressCounters(Checklist checklist) {
+        this.checklistId = checklist.getId();
+        this.totalItems = checklist.getItems().size();
+        this.categories = checklist.getItems().stream()
+                .map(ChecklistItem::getCategory)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+        for (int i = 0; i < categories.length; i++) {
+            rowByCategory.put(categories[i], i + 1);
+        }
+        this.counts = new AtomicIntegerArray((categories.length + 1) * STATUS_COUNT);
+    }
+
+    /**
+     * Builds counters from scratch by scanning every item once.
+     */
+    public static ProgressCounters recount(Checklist checklist) {
+        ProgressCounters counters = new ProgressCounters(checklist);
+        for (ChecklistItem item : checklist.getItems()) {
+            counters.transition(item.getCategory(), null, item.getStatus());
+        }
+        return counters;
+    }
+
+    public void transition(String category, ChecklistItem.ItemStatus from, ChecklistItem.ItemStatus to) {
+        if (from == to) {
+            return;
+        }
+
+        int categoryRow = category == null ? 0 : rowByCategory.getOrDefault(category, 0);
+        if (from != null) {
+            counts.decrementAndGet(from.ordinal());
+            if (categoryRow > 0) {
+                counts.decrementAndGet(categoryRow * STATUS_COUNT + from.ordinal());
+            }
+        }
+        if (to != null) {
+            counts.incrementAndGet(to.ordinal());
+            if (categoryRow > 0) {
+                counts.incrementAndGet(categoryRow * STATUS_COUNT + to.ordinal());
+            }
+        }
+        changes.incrementAndGet();
+    }
+
+    public int count(ChecklistItem.ItemStatus status) {
+        return counts.get(status.ordinal());
+    }
+
+    public int count(String category, ChecklistItem.ItemStatus status) {
+        Integer row = rowByCategory.get(category);
+        return row == null ? 0 : counts.get(row * STATUS_COUNT + status.ordinal());
+    }
+
+    /**
+     * Every category of the checklist's items, sorted.
+     */
+    public List<String> categories() {
+        return List.of(categories);
+    }
+
+    /**
+     * The checklist's progress. The response is shared by every read until the next transition, so callers must
+     * not modify it.
+     */
+    public ProgressResponse progress() {
+        int stamp = changes.get();
+        Built current = built;
+        if (current != null && current.stamp() == stamp) {
+            return current.response();
+        }
+
+        // Loaded after the stamp: a transition that races with the loads also moves the stamp, so the next read
+        // rebuilds rather than keeping a torn response
+        Map<String, ProgressResponse.CategoryProgress> byCategory = new LinkedHashMap<>(
+                (int) (categories.length / 0.75f) + 1);
+        for (int i = 0; i < categories.length; i++) {
+            int row = (i + 1) * STATUS_COUNT;
+            int completed = counts.get(row + COMPLETED);
+            int partial = counts.get(row + PARTIAL);
+            int pending = counts.get(row + PENDING);
+            byCategory.put(categories[i],
+                    new ProgressResponse.CategoryProgress(completed + partial + pending, completed, partial, pending));
+        }
+        int completed = counts.get(COMPLETED);
+        double completionPercentage = totalItems > 0 ? (completed * 100.0 / totalItems) : 0.0;
+        ProgressResponse response = new ProgressResponse(checklistId, totalItems, completed, counts.get(PARTIAL),
+                counts.get(PENDING), Math.round(completionPercentage * 100.0) / 100.0,
+                Collections.unmodifiableMap(byCategory));
+
+        built = new Built(stamp, response);
+        return response;
+    }
+
+    private record Built(int stamp, ProgressResponse response) {
+    }
+}
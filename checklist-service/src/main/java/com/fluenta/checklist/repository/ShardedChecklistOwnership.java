@@ -0,0 +1,57 @@
+package com.fluenta.checklist.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ownership from the consistent-hash ring when {@code checklist.sharding.enabled=true}. Every instance is given the
+ * same {@code checklist.sharding.nodes} (base URLs of all instances) and its own URL in
+ * {@code checklist.sharding.self}.
+ */
+@Component
+@ConditionalOnProperty(name = "checklist.sharding.enabled", havingValue = "true")
+public class ShardedChecklistOwnership implements ChecklistOwnership {
+    private static final Logger log = LoggerFactory.getLogger(ShardedChecklistOwnership.class);
+
+    private final ConsistentHashRing ring;
+    private final String self;
+
+    public ShardedChecklistOwnership(@Value("${checklist.sharding.nodes}") List<String> nodes,
+                                     @Value("${checklist.sharding.self}") String self,
+                                     @Value("${checklist.sharding.virtual-nodes:128}") int virtualNodes) {
+        List<String> normalized = nodes.stream().map(ShardedChecklistOwnership::normalize)
+                .filter(n -> !n.isEmpty()).toList();
+        this.self = normalize(self);
+        if (!normalized.contains(this.self)) {
+            throw new IllegalStateException(
+                    "checklist.sharding.self (" + self + ") is not one of checklist.sharding.nodes");
+        }
+        this.ring = new ConsistentHashRing(normalized, virtualNodes);
+        log.info("Sharding checklists across {} instances; this instance is {}", normalized.size(), this.self);
+    }
+
+    @Override
+    public Optional<String> remoteOwner(String checklistId) {
+        String owner = ring.ownerOf(checklistId);
+        return owner.equals(self) ? Optional.empty() : Optional.of(owner);
+    }
+
+    public String ownerOf(String checklistId) {
+        return ring.ownerOf(checklistId);
+    }
+
+    public String getSelf() {
+        return self;
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
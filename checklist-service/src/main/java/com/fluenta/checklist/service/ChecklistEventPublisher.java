@@ -0,0 +1,251 @@
+package com.fluenta.checklist.service;
+
+import com.fluenta.checklist.model.ItemStatusEvent;
+import com.fluenta.checklist.model.ProgressResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans checklist change events out to server-sent-event subscribers.
+ * <p>
+ * Publishing only enqueues: each subscriber has a bounded buffer of item events and a single slot for the latest
+ * progress snapshot, and a small shared pool drains subscribers that have pending events. Connections are held
+ * by the servlet container's async support, so no thread is parked per subscriber. When a slow subscriber's
+ * buffer is full the oldest item event is dropped (and counted); progress events are coalesced to the newest.
+ * <p>
+ * Sends are blocking servlet writes, so a client that stops reading can hold a dispatcher thread until the
+ * container's write timeout. A watchdog evicts any subscriber whose send has run longer than
+ * {@code checklist.events.send-timeout-ms} and adds a dispatcher thread for as long as that send stays stuck, so
+ * other subscribers keep being served. The evicted emitter is completed once its send returns (the emitter locks
+ * out completion while a send is in progress), and the client can reconnect.
+ */
+@Component
+public class ChecklistEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(ChecklistEventPublisher.class);
+    private static final int MAX_COMPENSATION_THREADS = 64;
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService watchdog;
+    private final ReentrantLock compensationLock = new ReentrantLock();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int dispatcherThreads;
+    private final long sendTimeoutNanos;
+    private int stalledSends;
+
+    public ChecklistEventPublisher(@Value("${checklist.events.buffer-size:256}") int bufferSize,
+                                   @Value("${checklist.events.timeout-ms:1800000}") long timeoutMillis,
+                                   @Value("${checklist.events.dispatcher-threads:2}") int dispatcherThreads,
+                                   @Value("${checklist.events.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.dispatcherThreads = dispatcherThreads;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.dispatcher = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads + MAX_COMPENSATION_THREADS,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> daemon(runnable, "checklist-events"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(
+                runnable -> daemon(runnable, "checklist-events-watchdog"));
+        long checkMillis = Math.max(1, sendTimeoutMillis / 2);
+        watchdog.scheduleWithFixedDelay(this::evictStalledSubscribers, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String checklistId) {
+        return register(checklistId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter register(String checklistId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(checklistId, emitter);
+        subscribers.computeIfAbsent(checklistId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    public void publish(String checklistId, Collection<ItemStatusEvent> events, ProgressResponse progress) {
+        Set<Subscriber> targets = subscribers.get(checklistId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(events, progress);
+        }
+    }
+
+    public int subscriberCount(String checklistId) {
+        Set<Subscriber> targets = subscribers.get(checklistId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                long startedAt = subscriber.sendStartedAt;
+                boolean overdue = startedAt != 0 && now - startedAt > sendTimeoutNanos;
+                if (overdue && subscriber.stalled.compareAndSet(false, true)) {
+                    log.debug("Evicting event subscriber for {}: send blocked for {} ms", subscriber.checklistId,
+                            TimeUnit.NANOSECONDS.toMillis(now - startedAt));
+                    subscriber.close();
+                    adjustCompensation(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps one extra dispatcher thread per send that is stuck on a stalled client.
+     */
+    private void adjustCompensation(int delta) {
+        compensationLock.lock();
+        try {
+            stalledSends += delta;
+            dispatcher.setCorePoolSize(dispatcherThreads + Math.min(stalledSends, MAX_COMPENSATION_THREADS));
+        } finally {
+            compensationLock.unlock();
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private final class Subscriber {
+        private final String checklistId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<ItemStatusEvent> itemEvents = new ArrayDeque<>();
+        private final ReentrantLock bufferLock = new ReentrantLock();
+        private final AtomicReference<ProgressResponse> latestProgress = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile long sendStartedAt;
+        private volatile boolean closed;
+
+        private Subscriber(String checklistId, SseEmitter emitter) {
+            this.checklistId = checklistId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Collection<ItemStatusEvent> events, ProgressResponse progress) {
+            bufferLock.lock();
+            try {
+                for (ItemStatusEvent event : events) {
+                    if (itemEvents.size() == bufferSize) {
+                        itemEvents.pollFirst();
+                        dropped.incrementAndGet();
+                    }
+                    itemEvents.addLast(event);
+                }
+            } finally {
+                bufferLock.unlock();
+            }
+            if (progress != null) {
+                latestProgress.set(progress);
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                ItemStatusEvent event;
+                while (!closed && (event = poll()) != null) {
+                    send(SseEmitter.event().name("item-status").data(event));
+                }
+                ProgressResponse progress = latestProgress.getAndSet(null);
+                if (!closed && progress != null) {
+                    send(SseEmitter.event().name("progress").data(progress));
+                }
+                long droppedSinceLastSend = dropped.getAndSet(0);
+                if (!closed && droppedSinceLastSend > 0) {
+                    send(SseEmitter.event().name("dropped").data(droppedSinceLastSend));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping event subscriber for {}: {}", checklistId, e.getMessage());
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (closed) {
+                // Evicted while a send was blocked; the emitter could not be completed until now
+                emitter.complete();
+                return;
+            }
+            if (hasPending() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = 0;
+                if (stalled.compareAndSet(true, false)) {
+                    adjustCompensation(-1);
+                }
+            }
+        }
+
+        private ItemStatusEvent poll() {
+            bufferLock.lock();
+            try {
+                return itemEvents.pollFirst();
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        private boolean hasPending() {
+            bufferLock.lock();
+            try {
+                return !itemEvents.isEmpty() || latestProgress.get() != null;
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            Set<Subscriber> targets = subscribers.get(checklistId);
+            if (targets != null) {
+                targets.remove(this);
+            }
+        }
+    }
+}
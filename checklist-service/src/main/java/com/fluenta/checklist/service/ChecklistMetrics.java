@@ -0,0 +1,74 @@
+package com.fluenta.checklist.service;
+
+import com.fluenta.checklist.repository.DocumentRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for checklist-service, exposed at {@code /actuator/prometheus}.
+ * <p>
+ * Per-checklist meters are created on first use and then looked up with a plain map read, and latencies are
+ * recorded from {@link System#nanoTime()} deltas, so recording on the update path does not allocate.
+ */
+@Component
+public class ChecklistMetrics {
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Timer> statusUpdateTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> progressReadCounters = new ConcurrentHashMap<>();
+    private final DistributionSummary evidenceListSize;
+
+    public ChecklistMetrics(MeterRegistry registry, DocumentRegistry documentRegistry) {
+        this.registry = registry;
+        this.evidenceListSize = DistributionSummary.builder("checklist.item.evidence.size")
+                .description("Inline evidence entries on an item after a status update")
+                .baseUnit("entries")
+                .register(registry);
+
+        Gauge.builder("checklist.documents.registered", documentRegistry, DocumentRegistry::getDocumentCount)
+                .description("Distinct documents (by content hash) seen by document analysis")
+                .register(registry);
+        FunctionCounter.builder("checklist.documents.match.requests", documentRegistry, DocumentRegistry::getMatchHits)
+                .description("Document/requirement matches answered from the registry")
+                .tag("result", "reused")
+                .register(registry);
+        FunctionCounter.builder("checklist.documents.match.requests", documentRegistry, DocumentRegistry::getMatchMisses)
+                .description("Document/requirement matches sent to the analyzer")
+                .tag("result", "analyzed")
+                .register(registry);
+    }
+
+    public void recordStatusUpdate(String checklistId, long elapsedNanos) {
+        Timer timer = statusUpdateTimers.get(checklistId);
+        if (timer == null) {
+            timer = statusUpdateTimers.computeIfAbsent(checklistId, id -> Timer.builder("checklist.status.update")
+                    .description("Item status update latency, including journaling; batched updates record the batch's")
+                    .tag("checklist", id)
+                    .register(registry));
+        }
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEvidenceListSize(int size) {
+        evidenceListSize.record(size);
+    }
+
+    public void recordProgressRead(String checklistId) {
+        Counter counter = progressReadCounters.get(checklistId);
+        if (counter == null) {
+            counter = progressReadCounters.computeIfAbsent(checklistId, id -> Counter.builder("checklist.progress.reads")
+                    .description("Progress reads")
+                    .tag("checklist", id)
+                    .register(registry));
+        }
+        counter.increment();
+    }
+}
@@ -0,0 +1,59 @@
+package com.fluenta.checklist.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.BatchStatusUpdateRequest;
+import com.fluenta.checklist.model.Checklist;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streams checklists to and from newline-delimited JSON.
+ * <p>
+ * Each line is either a full checklist or a single evidence record shaped like
+ * {@link BatchStatusUpdateRequest.ItemUpdate} ({@code checklistId}, {@code itemId}, {@code evidence}). Only one
+ * line is held in memory at a time, whatever the size of the stream.
+ */
+@Component
+public class ChecklistNdjsonCodec {
+    private final ObjectMapper objectMapper;
+
+    public ChecklistNdjsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public long write(Iterable<Checklist> checklists, OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (Checklist checklist : checklists) {
+                objectMapper.writeValue(generator, checklist);
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+
+    public void read(InputStream in,
+                     Consumer<Checklist> checklistConsumer,
+                     Consumer<BatchStatusUpdateRequest.ItemUpdate> evidenceConsumer) throws IOException {
+        try (MappingIterator<JsonNode> lines = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (lines.hasNextValue()) {
+                JsonNode line = lines.nextValue();
+                if (line.has("checklistId") && line.has("itemId")) {
+                    evidenceConsumer.accept(objectMapper.treeToValue(line, BatchStatusUpdateRequest.ItemUpdate.class));
+                } else {
+                    checklistConsumer.accept(objectMapper.treeToValue(line, Checklist.class));
+                }
+            }
+        }
+    }
+}
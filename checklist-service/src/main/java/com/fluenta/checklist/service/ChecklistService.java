@@ -1,18 +1,66 @@
 package com.fluenta.checklist.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fluenta.checklist.model.*;
+import com.fluenta.checklist.repository.ChecklistJournal;
+import com.fluenta.checklist.repository.ChecklistOwnership;
 import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.EvidenceArchive;
+import com.fluenta.checklist.repository.ItemIndex;
+import com.fluenta.checklist.repository.ProgressCounters;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class ChecklistService {
+    private static final int IMPORT_BATCH_SIZE = 500;
+
     private final ChecklistRepository repository;
+    private final EvidenceArchive evidenceArchive;
+    private final ChecklistJournal journal;
+    private final ChecklistNdjsonCodec ndjsonCodec;
+    private final ObjectMapper objectMapper;
+    private final ChecklistEventPublisher eventPublisher;
+    private final ChecklistMetrics metrics;
+    private final ChecklistOwnership ownership;
+    private final ResourceLoader resourceLoader;
+    private final String seedLocation;
+    private final int maxInlineEvidence;
 
-    public ChecklistService(ChecklistRepository repository) {
+    public ChecklistService(ChecklistRepository repository,
+                            EvidenceArchive evidenceArchive,
+                            ChecklistJournal journal,
+                            ChecklistNdjsonCodec ndjsonCodec,
+                            ObjectMapper objectMapper,
+                            ChecklistEventPublisher eventPublisher,
+                            ChecklistMetrics metrics,
+                            ChecklistOwnership ownership,
+                            ResourceLoader resourceLoader,
+                            @Value("${checklist.seed.location:}") String seedLocation,
+                            @Value("${checklist.evidence.max-inline:0}") int maxInlineEvidence) {
         this.repository = repository;
+        this.evidenceArchive = evidenceArchive;
+        this.journal = journal;
+        this.ndjsonCodec = ndjsonCodec;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.ownership = ownership;
+        this.resourceLoader = resourceLoader;
+        this.seedLocation = seedLocation;
+        this.maxInlineEvidence = maxInlineEvidence;
     }
 
     public List<Checklist> getAllChecklists() {
@@ -23,55 +71,350 @@ public class ChecklistService {
         return repository.findById(id);
     }
 
+    public Optional<String> getVersion(String checklistId) {
+        return repository.findVersion(checklistId);
+    }
+
+    public Optional<ChecklistItem> getItem(String checklistId, String itemId) {
+        return repository.findItem(checklistId, itemId);
+    }
+
+    public Optional<ItemPage> queryItems(String checklistId, ItemQuery query) {
+        return repository.findIndex(checklistId).map(index -> {
+            ItemIndex.Page page = index.query(query);
+            List<?> items = page.items();
+            if (query.getFields() != null && !query.getFields().isEmpty()) {
+                items = page.items().stream()
+                        .map(item -> objectMapper.<ObjectNode>valueToTree(item).retain(query.getFields()))
+                        .toList();
+            }
+            return ItemPage.builder()
+                    .checklistId(checklistId)
+                    .items(items)
+                    .nextCursor(page.nextPosition() == null ? null : page.nextPosition().toString())
+                    .build();
+        });
+    }
+
     public Optional<ChecklistItem> updateItemStatus(String checklistId, String itemId, StatusUpdateRequest request) {
-        Optional<Checklist> checklistOpt = repository.findById(checklistId);
-        if (checklistOpt.isEmpty()) {
-            return Optional.empty();
+        long start = System.nanoTime();
+        List<ItemStatusEvent> events = new ArrayList<>(1);
+        List<CompletableFuture<Void>> durable = new ArrayList<>(1);
+        Optional<ChecklistItem> updated = repository.update(checklistId, checklist -> {
+            if (repository.findItem(checklistId, itemId).isEmpty()) {
+                return null;
+            }
+            durable.add(journal.append(checklistId, itemId, request));
+            return applyStatusUpdate(checklistId, itemId, request, events);
+        });
+        durable.forEach(this::awaitDurable);
+        publishEvents(checklistId, events);
+        if (updated.isPresent()) {
+            metrics.recordStatusUpdate(checklistId, System.nanoTime() - start);
+            metrics.recordEvidenceListSize(updated.get().getEvidence().size());
         }
+        return updated;
+    }
 
-        Checklist checklist = checklistOpt.get();
-        Optional<ChecklistItem> itemOpt = checklist.getItems().stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst();
+    public Optional<SseEmitter> subscribe(String checklistId) {
+        return repository.findById(checklistId).map(checklist -> eventPublisher.subscribe(checklistId));
+    }
 
-        if (itemOpt.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Applies many item updates, taking each checklist's write lock once for all of its updates.
+     * Results are returned in request order; entries without a checklist id are reported as NOT_FOUND, and with
+     * sharding, entries for checklists another instance owns are left alone and reported as NOT_OWNED with the
+     * owner, so the caller can send them there.
+     */
+    public BatchStatusUpdateResponse updateItemStatuses(BatchStatusUpdateRequest request) {
+        return updateItemStatuses(request, true);
+    }
+
+    /**
+     * @param live false while seeding at startup: updates are then neither journaled nor published
+     */
+    private BatchStatusUpdateResponse updateItemStatuses(BatchStatusUpdateRequest request, boolean live) {
+        long start = System.nanoTime();
+        // The journal writes entries in append order, so the last one becoming durable covers the whole batch
+        List<CompletableFuture<Void>> lastDurable = new ArrayList<>(1);
+        List<BatchStatusUpdateRequest.ItemUpdate> updates =
+                request.getUpdates() == null ? List.of() : request.getUpdates();
+        BatchStatusUpdateResponse.ItemResult[] results = new BatchStatusUpdateResponse.ItemResult[updates.size()];
+
+        Map<String, List<Integer>> positionsByChecklist = new LinkedHashMap<>();
+        Map<String, Optional<String>> remoteOwners = new HashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            BatchStatusUpdateRequest.ItemUpdate update = updates.get(i);
+            if (update == null || update.getChecklistId() == null) {
+                continue;
+            }
+            Optional<String> owner = remoteOwners.computeIfAbsent(update.getChecklistId(), ownership::remoteOwner);
+            if (owner.isPresent()) {
+                results[i] = batchResult(update, BatchStatusUpdateResponse.Outcome.NOT_OWNED, null);
+                results[i].setOwner(owner.get());
+            } else {
+                positionsByChecklist.computeIfAbsent(update.getChecklistId(), id -> new ArrayList<>()).add(i);
+            }
         }
 
-        ChecklistItem item = itemOpt.get();
+        Map<String, List<ItemStatusEvent>> eventsByChecklist = new LinkedHashMap<>();
+        positionsByChecklist.forEach((checklistId, positions) -> {
+            List<ItemStatusEvent> events = live ? new ArrayList<>(positions.size()) : null;
+            if (live) {
+                eventsByChecklist.put(checklistId, events);
+            }
+            repository.update(checklistId, checklist -> {
+                for (int position : positions) {
+                    BatchStatusUpdateRequest.ItemUpdate update = updates.get(position);
+                    if (repository.findItem(checklistId, update.getItemId()).isEmpty()) {
+                        continue;
+                    }
+                    StatusUpdateRequest itemRequest = new StatusUpdateRequest(update.getStatus(), update.getEvidence());
+                    if (live) {
+                        lastDurable.clear();
+                        lastDurable.add(journal.append(checklistId, update.getItemId(), itemRequest));
+                    }
+                    ChecklistItem item = applyStatusUpdate(checklistId, update.getItemId(), itemRequest, events);
+                    if (live) {
+                        metrics.recordEvidenceListSize(item.getEvidence().size());
+                    }
+                    results[position] = batchResult(update, BatchStatusUpdateResponse.Outcome.UPDATED, item.getStatus());
+                }
+                return checklist;
+            });
+        });
+        lastDurable.forEach(this::awaitDurable);
+        eventsByChecklist.forEach(this::publishEvents);
+
+        // Every update in the batch is acknowledged together, so each one is timed at the batch's latency
+        long elapsed = System.nanoTime() - start;
+        int applied = 0;
+        int notOwned = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = batchResult(updates.get(i), BatchStatusUpdateResponse.Outcome.NOT_FOUND, null);
+            } else if (results[i].getOutcome() == BatchStatusUpdateResponse.Outcome.NOT_OWNED) {
+                notOwned++;
+            } else {
+                applied++;
+                if (live) {
+                    metrics.recordStatusUpdate(results[i].getChecklistId(), elapsed);
+                }
+            }
+        }
+
+        return BatchStatusUpdateResponse.builder()
+                .applied(applied)
+                .notFound(results.length - applied - notOwned)
+                .notOwned(notOwned)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private BatchStatusUpdateResponse.ItemResult batchResult(BatchStatusUpdateRequest.ItemUpdate update,
+                                                             BatchStatusUpdateResponse.Outcome outcome,
+                                                             ChecklistItem.ItemStatus status) {
+        return BatchStatusUpdateResponse.ItemResult.builder()
+                .checklistId(update == null ? null : update.getChecklistId())
+                .itemId(update == null ? null : update.getItemId())
+                .outcome(outcome)
+                .status(status)
+                .build();
+    }
+
+    public long exportNdjson(OutputStream out) throws IOException {
+        return ndjsonCodec.write(repository.findAll(), out);
+    }
+
+    public ImportResponse importNdjson(InputStream in) throws IOException {
+        return importNdjson(in, true);
+    }
+
+    /**
+     * Reads checklists and evidence records line by line. Checklists replace any stored checklist with the same
+     * id; evidence records are applied in batches the same way as the batch status endpoint. With sharding, lines
+     * for checklists another instance owns are skipped and their owners listed in the response.
+     */
+    private ImportResponse importNdjson(InputStream in, boolean live) throws IOException {
+        long[] checklists = new long[2];
+        long[] evidence = new long[3];
+        Map<String, String> owners = new TreeMap<>();
+        List<CompletableFuture<Void>> savesDurable = new ArrayList<>(1);
+        List<BatchStatusUpdateRequest.ItemUpdate> pending = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+        Runnable flush = () -> {
+            if (pending.isEmpty()) {
+                return;
+            }
+            BatchStatusUpdateResponse result = updateItemStatuses(new BatchStatusUpdateRequest(pending), live);
+            evidence[0] += result.getApplied();
+            evidence[1] += result.getNotFound();
+            evidence[2] += result.getNotOwned();
+            if (result.getNotOwned() > 0) {
+                for (BatchStatusUpdateResponse.ItemResult itemResult : result.getResults()) {
+                    if (itemResult.getOutcome() == BatchStatusUpdateResponse.Outcome.NOT_OWNED) {
+                        owners.put(itemResult.getChecklistId(), itemResult.getOwner());
+                    }
+                }
+            }
+            pending.clear();
+        };
+
+        ndjsonCodec.read(in,
+                checklist -> {
+                    flush.run();
+                    Optional<String> owner = checklist.getId() == null
+                            ? Optional.empty() : ownership.remoteOwner(checklist.getId());
+                    if (owner.isPresent()) {
+                        owners.put(checklist.getId(), owner.get());
+                        checklists[1]++;
+                        return;
+                    }
+                    repository.save(checklist, saved -> {
+                        if (live) {
+                            savesDurable.clear();
+                            savesDurable.add(journal.appendSave(saved));
+                        }
+                    });
+                    checklists[0]++;
+                },
+                update -> {
+                    pending.add(update);
+                    if (pending.size() >= IMPORT_BATCH_SIZE) {
+                        flush.run();
+                    }
+                });
+        flush.run();
+        savesDurable.forEach(this::awaitDurable);
+
+        return ImportResponse.builder()
+                .checklists(checklists[0])
+                .evidenceApplied(evidence[0])
+                .evidenceNotFound(evidence[1])
+                .checklistsNotOwned(checklists[1])
+                .evidenceNotOwned(evidence[2])
+                .owners(owners)
+                .build();
+    }
+
+    /**
+     * Seeds checklists from {@code checklist.seed.location} when configured, then restores persisted state and
+     * replays journaled updates. Seeded checklists and replayed updates are applied directly and are not
+     * journaled again.
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        if (!seedLocation.isBlank()) {
+            try (InputStream in = resourceLoader.getResource(seedLocation).getInputStream()) {
+                importNdjson(in, false);
+            }
+        }
+        journal.recover((checklistId, itemId, request) ->
+                repository.update(checklistId, checklist -> applyStatusUpdate(checklistId, itemId, request, null)));
+    }
+
+    /**
+     * Waits, outside the write lock, until a journal entry and everything appended before it is durable.
+     */
+    private void awaitDurable(CompletableFuture<Void> durable) {
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Publishes item events collected under the write lock, plus a progress snapshot when any status changed.
+     * Called after the lock is released so subscribers never hold up writers.
+     */
+    private void publishEvents(String checklistId, List<ItemStatusEvent> events) {
+        if (events.isEmpty() || eventPublisher.subscriberCount(checklistId) == 0) {
+            return;
+        }
+        boolean statusChanged = events.stream().anyMatch(ItemStatusEvent::isTransition);
+        // Read the counters directly: a pushed snapshot is not a client progress read
+        ProgressResponse progress = statusChanged ? readProgress(checklistId).orElse(null) : null;
+        eventPublisher.publish(checklistId, events, progress);
+    }
+
+    /**
+     * Applies one status update to an item and, when {@code events} is not null, records the resulting event.
+     * Callers must hold the checklist's write lock.
+     */
+    private ChecklistItem applyStatusUpdate(String checklistId, String itemId, StatusUpdateRequest request,
+                                            List<ItemStatusEvent> events) {
+        ChecklistItem item = repository.findItem(checklistId, itemId).orElse(null);
+
+        if (item == null) {
+            return null;
+        }
 
         // Add new evidence first
         if (request.getEvidence() != null) {
             item.getEvidence().add(request.getEvidence());
+            item.recordEvidence(request.getEvidence());
+            spillOverflowEvidence(checklistId, item);
         }
 
         // Determine status based on BEST (highest confidence) evidence
         // This ensures that once good evidence is uploaded, status doesn't degrade
-        ChecklistItem.ItemStatus bestStatus = determineBestStatus(item.getEvidence());
+        ChecklistItem.ItemStatus previousStatus = item.getStatus();
+        ChecklistItem.ItemStatus bestStatus = determineBestStatus(item.getBestConfidence());
         item.setStatus(bestStatus);
+        repository.recordTransition(checklistId, item, previousStatus, bestStatus);
+        repository.bumpVersion(checklistId);
+
+        if (events != null) {
+            events.add(ItemStatusEvent.builder()
+                    .checklistId(checklistId)
+                    .itemId(itemId)
+                    .previousStatus(previousStatus)
+                    .status(bestStatus)
+                    .bestConfidence(item.getBestConfidence())
+                    .evidenceCount(item.getEvidence().size())
+                    .occurredAt(Instant.now())
+                    .build());
+        }
+        return item;
+    }
+
+    public Optional<List<Evidence>> getArchivedEvidence(String checklistId, String itemId) {
+        return repository.findItem(checklistId, itemId)
+                .map(item -> evidenceArchive.findArchived(checklistId, itemId));
+    }
+
+    /**
+     * Moves the oldest inline evidence to the archive once the item holds more than
+     * {@code checklist.evidence.max-inline} entries. A limit of 0 keeps every entry inline.
+     */
+    private void spillOverflowEvidence(String checklistId, ChecklistItem item) {
+        if (maxInlineEvidence <= 0) {
+            return;
+        }
 
-        repository.save(checklist);
-        return Optional.of(item);
+        List<Evidence> evidenceList = item.getEvidence();
+        while (evidenceList.size() > maxInlineEvidence) {
+            evidenceArchive.archive(checklistId, item.getId(), evidenceList.remove(0));
+        }
     }
 
     /**
-     * Determines the best status based on all evidence.
+     * Determines the best status from the highest confidence seen across all evidence.
      * Priority: COMPLETED > PARTIAL > PENDING
      * Logic:
-     * - If ANY evidence has confidence > 0.7, status is COMPLETED
-     * - Else if ANY evidence has confidence > 0.3, status is PARTIAL
+     * - If ANY evidence has confidence >= 0.7, status is COMPLETED
+     * - Else if ANY evidence has confidence >= 0.3, status is PARTIAL
      * - Otherwise status is PENDING
      */
-    private ChecklistItem.ItemStatus determineBestStatus(List<Evidence> evidenceList) {
-        if (evidenceList.isEmpty()) {
+    private ChecklistItem.ItemStatus determineBestStatus(Double maxConfidence) {
+        if (maxConfidence == null) {
             return ChecklistItem.ItemStatus.PENDING;
         }
 
-        double maxConfidence = evidenceList.stream()
-                .mapToDouble(Evidence::getConfidence)
-                .max()
-                .orElse(0.0);
-
         if (maxConfidence >= 0.7) {
             return ChecklistItem.ItemStatus.COMPLETED;
         } else if (maxConfidence >= 0.3) {
@@ -82,34 +425,14 @@ public class ChecklistService {
     }
 
     public Optional<ProgressResponse> getProgress(String checklistId) {
-        Optional<Checklist> checklistOpt = repository.findById(checklistId);
-        if (checklistOpt.isEmpty()) {
-            return Optional.empty();
+        Optional<ProgressResponse> progress = readProgress(checklistId);
+        if (progress.isPresent()) {
+            metrics.recordProgressRead(checklistId);
         }
+        return progress;
+    }
 
-        Checklist checklist = checklistOpt.get();
-        List<ChecklistItem> items = checklist.getItems();
-
-        int total = items.size();
-        long completed = items.stream()
-                .filter(item -> item.getStatus() == ChecklistItem.ItemStatus.COMPLETED)
-                .count();
-        long partial = items.stream()
-                .filter(item -> item.getStatus() == ChecklistItem.ItemStatus.PARTIAL)
-                .count();
-        long pending = items.stream()
-                .filter(item -> item.getStatus() == ChecklistItem.ItemStatus.PENDING)
-                .count();
-
-        double completionPercentage = total > 0 ? (completed * 100.0 / total) : 0.0;
-
-        return Optional.of(ProgressResponse.builder()
-                .checklistId(checklistId)
-                .totalItems(total)
-                .completedItems((int) completed)
-                .partialItems((int) partial)
-                .pendingItems((int) pending)
-                .completionPercentage(Math.round(completionPercentage * 100.0) / 100.0)
-                .build());
+    private Optional<ProgressResponse> readProgress(String checklistId) {
+        return repository.findCounters(checklistId).map(ProgressCounters::progress);
     }
 }
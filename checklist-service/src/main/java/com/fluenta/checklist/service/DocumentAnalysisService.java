@@ -0,0 +1,249 @@
+package com.fluenta.checklist.service;
+
+import com.fluenta.checklist.client.EvidenceAnalyzerClient;
+import com.fluenta.checklist.model.*;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.DocumentRegistry;
+import com.fluenta.checklist.repository.HintIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Matches one document against a checklist on the server: candidate items are picked by scanning the document
+ * once against the checklist's {@link HintIndex}, the analyzer is asked about every candidate in parallel, and
+ * evidence for all matches is applied as one batch.
+ * <p>
+ * Documents are content-addressed through the {@link DocumentRegistry}: evidence refers to a document by the
+ * SHA-256 of its text, items that already hold evidence for an identical upload are not analyzed again, and
+ * analyzer answers are reused for any document/requirement pair seen before, whichever checklist asked.
+ * <p>
+ * Analyzer calls run on a fixed pool of {@code checklist.analysis.max-concurrency} threads shared by all
+ * documents, which is also the cap on concurrent calls to the analyzer.
+ */
+@Service
+public class DocumentAnalysisService {
+    private static final Logger log = LoggerFactory.getLogger(DocumentAnalysisService.class);
+
+    private final ChecklistService checklistService;
+    private final ChecklistRepository repository;
+    private final DocumentRegistry documentRegistry;
+    private final EvidenceAnalyzerClient analyzerClient;
+    private final ExecutorService analysisPool;
+
+    public DocumentAnalysisService(ChecklistService checklistService,
+                                   ChecklistRepository repository,
+                                   DocumentRegistry documentRegistry,
+                                   EvidenceAnalyzerClient analyzerClient,
+                                   @Value("${checklist.analysis.max-concurrency:8}") int maxConcurrency) {
+        this.checklistService = checklistService;
+        this.repository = repository;
+        this.documentRegistry = documentRegistry;
+        this.analyzerClient = analyzerClient;
+        this.analysisPool = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "document-analysis");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Optional<DocumentAnalysisResponse> analyze(String checklistId, DocumentAnalysisRequest request) {
+        long start = System.nanoTime();
+        Optional<Checklist> checklist = checklistService.getChecklistById(checklistId);
+        if (checklist.isEmpty()) {
+            return Optional.empty();
+        }
+
+        DocumentRegistry.Registration registration =
+                documentRegistry.register(request.getDocumentText(), request.getDocumentName());
+        DocumentRecord document = registration.document();
+        String documentId = document.getHash();
+        // Share the registered name instance across evidence unless this upload names the document differently
+        String documentName = request.getDocumentName() == null || request.getDocumentName().equals(document.getDocumentName())
+                ? document.getDocumentName() : request.getDocumentName();
+
+        List<ChecklistItem> items = checklist.get().getItems();
+        List<HintCandidate> selected = selectCandidates(checklistId, items, request);
+        Map<String, ChecklistItem> itemsById = new HashMap<>(items.size() * 2);
+        items.forEach(item -> itemsById.putIfAbsent(item.getId(), item));
+
+        // An identical upload needs no analysis for items that already carry its evidence
+        List<HintCandidate> candidates = new ArrayList<>(selected.size());
+        List<DocumentAnalysisResponse.ItemResult> results = new ArrayList<>(selected.size());
+        for (HintCandidate candidate : selected) {
+            ChecklistItem item = itemsById.get(candidate.getItemId());
+            if (registration.duplicate() && hasEvidenceFor(item, documentId)) {
+                results.add(DocumentAnalysisResponse.ItemResult.builder()
+                        .itemId(item.getId())
+                        .hintScore(candidate.getScore())
+                        .outcome(DocumentAnalysisResponse.Outcome.ALREADY_RECORDED)
+                        .status(item.getStatus())
+                        .build());
+            } else {
+                candidates.add(candidate);
+            }
+        }
+        int alreadyRecorded = results.size();
+
+        AtomicInteger analyzerCalls = new AtomicInteger();
+        List<CompletableFuture<DocumentMatchResult>> calls = new ArrayList<>(candidates.size());
+        for (HintCandidate candidate : candidates) {
+            ChecklistItem item = itemsById.get(candidate.getItemId());
+            DocumentMatchRequest matchRequest = DocumentMatchRequest.builder()
+                    .documentText(request.getDocumentText())
+                    .requirement(item.getRequirement())
+                    .hints(item.getHints())
+                    .build();
+            calls.add(documentRegistry.match(documentId, matchRequest, () -> {
+                analyzerCalls.incrementAndGet();
+                return CompletableFuture.supplyAsync(() -> analyzerClient.match(matchRequest), analysisPool);
+            }));
+        }
+
+        Instant uploadedAt = Instant.now();
+        List<BatchStatusUpdateRequest.ItemUpdate> updates = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            HintCandidate candidate = candidates.get(i);
+            ChecklistItem item = itemsById.get(candidate.getItemId());
+            DocumentMatchResult match;
+            try {
+                match = calls.get(i).join();
+            } catch (CompletionException e) {
+                log.warn("Analyzer call failed for {}/{}: {}", checklistId, item.getId(), e.getCause().getMessage());
+                results.add(DocumentAnalysisResponse.ItemResult.builder()
+                        .itemId(item.getId())
+                        .hintScore(candidate.getScore())
+                        .outcome(DocumentAnalysisResponse.Outcome.FAILED)
+                        .error(e.getCause().getMessage())
+                        .build());
+                continue;
+            }
+
+            boolean matched = match != null && Boolean.TRUE.equals(match.getMatches());
+            results.add(DocumentAnalysisResponse.ItemResult.builder()
+                    .itemId(item.getId())
+                    .hintScore(candidate.getScore())
+                    .outcome(matched ? DocumentAnalysisResponse.Outcome.MATCHED : DocumentAnalysisResponse.Outcome.NOT_MATCHED)
+                    .confidence(match == null ? null : match.getConfidence())
+                    .reasoning(match == null ? null : match.getReasoning())
+                    .build());
+            if (matched) {
+                updates.add(new BatchStatusUpdateRequest.ItemUpdate(checklistId, item.getId(),
+                        match.getConfidence() != null && match.getConfidence() > 0.7
+                                ? ChecklistItem.ItemStatus.COMPLETED
+                                : ChecklistItem.ItemStatus.PARTIAL,
+                        Evidence.builder()
+                                .documentId(documentId)
+                                .documentName(documentName)
+                                .confidence(match.getConfidence())
+                                .uploadedAt(uploadedAt)
+                                .relevantSections(match.getRelevantSections() == null
+                                        ? null : String.join("; ", match.getRelevantSections()))
+                                .build()));
+            }
+        }
+
+        // Only matches become evidence; all of them are applied under one lock acquisition
+        if (!updates.isEmpty()) {
+            BatchStatusUpdateResponse applied = checklistService.updateItemStatuses(
+                    BatchStatusUpdateRequest.builder().updates(updates).build());
+            Map<String, ChecklistItem.ItemStatus> statuses = new HashMap<>();
+            applied.getResults().forEach(result -> statuses.put(result.getItemId(), result.getStatus()));
+            results.forEach(result -> {
+                if (statuses.containsKey(result.getItemId())) {
+                    result.setStatus(statuses.get(result.getItemId()));
+                }
+            });
+        }
+
+        return Optional.of(DocumentAnalysisResponse.builder()
+                .checklistId(checklistId)
+                .documentId(documentId)
+                .documentName(documentName)
+                .duplicate(registration.duplicate())
+                .candidates(candidates.size())
+                .skipped(items.size() - selected.size())
+                .alreadyRecorded(alreadyRecorded)
+                .analyzerCalls(analyzerCalls.get())
+                .matched(updates.size())
+                .failed((int) results.stream().filter(r -> r.getOutcome() == DocumentAnalysisResponse.Outcome.FAILED).count())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .results(results)
+                .build());
+    }
+
+    public Optional<DocumentRecord> findDocument(String hash) {
+        return documentRegistry.find(hash);
+    }
+
+    /**
+     * Items worth analyzing {@code documentText} against, best hint score first.
+     */
+    public Optional<List<HintCandidate>> findCandidates(String checklistId, String documentText) {
+        return checklistService.getChecklistById(checklistId)
+                .map(checklist -> selectCandidates(checklistId, checklist.getItems(),
+                        DocumentAnalysisRequest.builder().documentText(documentText).build()));
+    }
+
+    /**
+     * Explicit {@code itemIds} win; otherwise the candidates are the items with any hint in the document, from a
+     * single scan of the text. Items without hints are always candidates, since there is nothing to rule them
+     * out by; everything else that scores zero never reaches the analyzer.
+     */
+    private List<HintCandidate> selectCandidates(String checklistId, List<ChecklistItem> items,
+                                                 DocumentAnalysisRequest request) {
+        if (request.getItemIds() != null && !request.getItemIds().isEmpty()) {
+            Set<String> wanted = new HashSet<>(request.getItemIds());
+            return items.stream()
+                    .filter(item -> wanted.contains(item.getId()))
+                    .map(item -> HintCandidate.builder().itemId(item.getId()).requirement(item.getRequirement()).build())
+                    .toList();
+        }
+
+        List<HintCandidate> candidates = new ArrayList<>();
+        repository.findHintIndex(checklistId).ifPresent(index -> {
+            for (HintIndex.Match match : index.scan(request.getDocumentText())) {
+                candidates.add(HintCandidate.builder()
+                        .itemId(match.item().getId())
+                        .requirement(match.item().getRequirement())
+                        .score(match.score())
+                        .matchedHints(match.matchedHints())
+                        .occurrences(match.occurrences())
+                        .build());
+            }
+        });
+        for (ChecklistItem item : items) {
+            if (item.getHints() == null || item.getHints().isEmpty()) {
+                candidates.add(HintCandidate.builder().itemId(item.getId()).requirement(item.getRequirement()).build());
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean hasEvidenceFor(ChecklistItem item, String documentId) {
+        if (documentId.equals(item.getBestEvidenceDocumentId())) {
+            return true;
+        }
+        for (Evidence evidence : item.getEvidence()) {
+            if (documentId.equals(evidence.getDocumentId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analysisPool.shutdownNow();
+    }
+}
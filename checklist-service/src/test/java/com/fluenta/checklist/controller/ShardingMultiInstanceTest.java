@@ -0,0 +1,180 @@
+package com.fluenta.checklist.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.ChecklistServiceApplication;
+import com.fluenta.checklist.repository.ConsistentHashRing;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two checklist-service instances sharing one ring, talked to over HTTP the way clients do.
+ */
+class ShardingMultiInstanceTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final HttpClient redirectingClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private static String first;
+    private static String second;
+    private static ConfigurableApplicationContext firstInstance;
+    private static ConfigurableApplicationContext secondInstance;
+    private static ConsistentHashRing ring;
+    // Checklists owned by the first and the second instance
+    private static String firstOwned;
+    private static String secondOwned;
+
+    @BeforeAll
+    static void startInstances() throws IOException {
+        first = "http://127.0.0.1:" + freePort();
+        second = "http://127.0.0.1:" + freePort();
+        firstInstance = start(first);
+        secondInstance = start(second);
+
+        ring = new ConsistentHashRing(List.of(first, second), 128);
+        for (int tenant = 0; firstOwned == null || secondOwned == null; tenant++) {
+            String checklistId = "tenant-" + tenant + ":audit";
+            if (ring.ownerOf(checklistId).equals(first) && firstOwned == null) {
+                firstOwned = checklistId;
+            } else if (ring.ownerOf(checklistId).equals(second) && secondOwned == null) {
+                secondOwned = checklistId;
+            }
+        }
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        firstInstance.close();
+        secondInstance.close();
+    }
+
+    @Test
+    void importKeepsOnlyOwnedChecklistsAndNamesTheOwnerOfTheRest() throws Exception {
+        String ndjson = checklistLine(firstOwned) + checklistLine(secondOwned)
+                + evidenceLine(firstOwned) + evidenceLine(secondOwned);
+
+        JsonNode imported = post(first + "/api/checklists/import", "application/x-ndjson", ndjson);
+        assertThat(imported.get("checklists").asLong()).isEqualTo(1);
+        assertThat(imported.get("checklistsNotOwned").asLong()).isEqualTo(1);
+        assertThat(imported.get("evidenceApplied").asLong()).isEqualTo(1);
+        assertThat(imported.get("evidenceNotOwned").asLong()).isEqualTo(1);
+        assertThat(imported.get("owners").get(secondOwned).asText()).isEqualTo(second);
+
+        // The skipped checklist never landed on the first instance, and the owner does not have it yet either
+        assertThat(get(redirectingClient, first + "/api/checklists/" + secondOwned).statusCode()).isEqualTo(404);
+
+        JsonNode rest = post(second + "/api/checklists/import", "application/x-ndjson",
+                checklistLine(secondOwned) + evidenceLine(secondOwned));
+        assertThat(rest.get("checklists").asLong()).isEqualTo(1);
+        assertThat(rest.get("evidenceApplied").asLong()).isEqualTo(1);
+        assertThat(rest.get("checklistsNotOwned").asLong()).isZero();
+
+        // Either instance answers for either checklist: the non-owner redirects to the owner
+        HttpResponse<String> redirect = get(client, second + "/api/checklists/" + firstOwned);
+        assertThat(redirect.statusCode()).isEqualTo(307);
+        assertThat(redirect.headers().firstValue("Location")).hasValue(first + "/api/checklists/" + firstOwned);
+        assertThat(redirect.headers().firstValue("X-Checklist-Shard")).hasValue(first);
+        for (String checklistId : List.of(firstOwned, secondOwned)) {
+            JsonNode checklist = objectMapper.readTree(
+                    get(redirectingClient, second + "/api/checklists/" + checklistId).body());
+            assertThat(checklist.get("items").get(0).get("status").asText()).isEqualTo("COMPLETED");
+        }
+
+        // Batches are no different: each instance applies its own entries and names the owner of the others
+        String batch = "{\"updates\":["
+                + "{\"checklistId\":\"" + firstOwned + "\",\"itemId\":\"R-2\",\"status\":\"PARTIAL\","
+                + "\"evidence\":{\"documentId\":\"doc-2\",\"confidence\":0.5}},"
+                + "{\"checklistId\":\"" + secondOwned + "\",\"itemId\":\"R-2\",\"status\":\"PARTIAL\","
+                + "\"evidence\":{\"documentId\":\"doc-2\",\"confidence\":0.5}}]}";
+        JsonNode result = post(second + "/api/checklists/status/batch", "application/json", batch);
+        assertThat(result.get("applied").asInt()).isEqualTo(1);
+        assertThat(result.get("notOwned").asInt()).isEqualTo(1);
+        assertThat(result.get("notFound").asInt()).isZero();
+        assertThat(result.get("results").get(0).get("outcome").asText()).isEqualTo("NOT_OWNED");
+        assertThat(result.get("results").get(0).get("owner").asText()).isEqualTo(first);
+        assertThat(result.get("results").get(1).get("outcome").asText()).isEqualTo("UPDATED");
+
+        JsonNode untouched = objectMapper.readTree(get(client, first + "/api/checklists/" + firstOwned).body());
+        assertThat(untouched.get("items").get(1).get("status").asText()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void listAndExportOnlyCoverTheChecklistsEachInstanceOwns() throws Exception {
+        List<String> listed = new ArrayList<>();
+        for (String instance : List.of(first, second)) {
+            List<String> ids = new ArrayList<>();
+            objectMapper.readTree(get(client, instance + "/api/checklists").body())
+                    .forEach(checklist -> ids.add(checklist.get("id").asText()));
+            List<String> exported = new ArrayList<>();
+            for (String line : get(client, instance + "/api/checklists/export").body().split("\n")) {
+                if (!line.isBlank()) {
+                    exported.add(objectMapper.readTree(line).get("id").asText());
+                }
+            }
+
+            assertThat(exported).containsExactlyInAnyOrderElementsOf(ids);
+            assertThat(ids).allSatisfy(id -> assertThat(ring.ownerOf(id)).isEqualTo(instance));
+            listed.addAll(ids);
+        }
+        // The built-in checklist is only created on its owner, not on every instance
+        assertThat(listed).containsOnlyOnce("iso-27001-simplified");
+    }
+
+    private static ConfigurableApplicationContext start(String self) {
+        return new SpringApplicationBuilder(ChecklistServiceApplication.class).run(
+                "--server.port=" + URI.create(self).getPort(),
+                "--checklist.sharding.enabled=true",
+                "--checklist.sharding.nodes=" + first + "," + second,
+                "--checklist.sharding.self=" + self,
+                "--management.endpoints.web.exposure.include=health");
+    }
+
+    private static String checklistLine(String checklistId) {
+        return "{\"id\":\"" + checklistId + "\",\"name\":\"Audit\",\"items\":["
+                + "{\"id\":\"R-1\",\"category\":\"Access Control\",\"requirement\":\"Access policy\","
+                + "\"status\":\"PENDING\",\"hints\":[]},"
+                + "{\"id\":\"R-2\",\"category\":\"Access Control\",\"requirement\":\"Access reviews\","
+                + "\"status\":\"PENDING\",\"hints\":[]}]}\n";
+    }
+
+    private static String evidenceLine(String checklistId) {
+        return "{\"checklistId\":\"" + checklistId + "\",\"itemId\":\"R-1\","
+                + "\"evidence\":{\"documentId\":\"doc-1\",\"confidence\":0.9}}\n";
+    }
+
+    private static JsonNode post(String url, String contentType, String body) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private static HttpResponse<String> get(HttpClient httpClient, String url) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
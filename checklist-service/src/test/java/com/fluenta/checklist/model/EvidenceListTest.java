@@ -0,0 +1,87 @@
+package com.fluenta.checklist.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvidenceListTest {
+
+    @Test
+    void behavesLikeAListAcrossGrowthAndHeadRemovals() {
+        EvidenceList list = new EvidenceList();
+        List<Evidence> expected = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            Evidence evidence = evidence(i);
+            list.add(evidence);
+            expected.add(evidence);
+            // Keep at most 50 entries, the way the spill to the evidence archive does
+            while (list.size() > 50) {
+                assertThat(list.remove(0)).isSameAs(expected.remove(0));
+            }
+            assertThat(list).containsExactlyElementsOf(expected);
+        }
+
+        assertThat(list.remove(10)).isSameAs(expected.remove(10));
+        assertThat(list).containsExactlyElementsOf(expected);
+        assertThat(list.stream().toList()).isEqualTo(expected);
+        assertThat(list.toArray()).containsExactly(expected.toArray());
+        assertThat(new EvidenceList(expected)).isEqualTo(expected);
+    }
+
+    @Test
+    void iteratorKeepsItsSnapshotWhileTheListChanges() {
+        EvidenceList list = new EvidenceList();
+        for (int i = 0; i < 8; i++) {
+            list.add(evidence(i));
+        }
+
+        Iterator<Evidence> iterator = list.iterator();
+        list.add(evidence(8));
+        for (int i = 0; i < 6; i++) {
+            list.remove(0);
+        }
+
+        List<String> seen = new ArrayList<>();
+        iterator.forEachRemaining(evidence -> seen.add(evidence.getDocumentId()));
+        assertThat(seen).containsExactly("doc-0", "doc-1", "doc-2", "doc-3", "doc-4", "doc-5", "doc-6", "doc-7");
+        assertThat(list).extracting(Evidence::getDocumentId).containsExactly("doc-6", "doc-7", "doc-8");
+    }
+
+    @Test
+    void readersAlwaysSeeAContiguousRunWhileOneWriterAppendsAndSpills() throws Exception {
+        EvidenceList list = new EvidenceList();
+        AtomicBoolean done = new AtomicBoolean();
+
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            while (!done.get()) {
+                int previous = -1;
+                for (Evidence evidence : list) {
+                    int index = Integer.parseInt(evidence.getDocumentId().substring(4));
+                    assertThat(previous == -1 || index == previous + 1).isTrue();
+                    previous = index;
+                }
+            }
+        });
+
+        for (int i = 0; i < 200_000; i++) {
+            list.add(evidence(i));
+            if (list.size() > 100) {
+                list.remove(0);
+            }
+        }
+        done.set(true);
+        reader.get();
+        assertThat(list).hasSize(100);
+    }
+
+    private static Evidence evidence(int index) {
+        return Evidence.builder().documentId("doc-" + index).confidence(0.5).build();
+    }
+}
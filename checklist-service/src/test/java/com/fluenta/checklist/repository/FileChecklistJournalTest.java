@@ -0,0 +1,114 @@
+package com.fluenta.checklist.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.Evidence;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileChecklistJournalTest {
+    private static final String CHECKLIST_ID = "iso-27001-simplified";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<FileChecklistJournal> opened = new ArrayList<>();
+    // The evidence archive of each journal opened, in order
+    private final List<EvidenceArchive> archives = new ArrayList<>();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (FileChecklistJournal journal : opened) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void syncAppendCompletesAfterFsyncAndSurvivesRestart() throws Exception {
+        FileChecklistJournal journal = open("sync");
+        CompletableFuture<Void> last = null;
+        for (int i = 0; i < 100; i++) {
+            last = journal.append(CHECKLIST_ID, "AC-1", update(i));
+        }
+        last.get(10, TimeUnit.SECONDS);
+        journal.close();
+        opened.remove(journal);
+
+        List<String> replayed = new ArrayList<>();
+        open("sync", (checklistId, itemId, request) -> replayed.add(request.getEvidence().getDocumentId()));
+        assertThat(replayed).hasSize(100).startsWith("doc-0").endsWith("doc-99");
+    }
+
+    @Test
+    void snapshotKeepsArchivedEvidenceAcrossRestart() throws Exception {
+        FileChecklistJournal journal = open("sync");
+        List<Evidence> archived = List.of(update(0).getEvidence(), update(1).getEvidence());
+        archived.forEach(evidence -> archives.get(0).archive(CHECKLIST_ID, "AC-1", evidence));
+        journal.snapshot();
+        journal.close();
+        opened.remove(journal);
+
+        open("sync");
+        EvidenceArchive restored = archives.get(1);
+        assertThat(restored.findArchived(CHECKLIST_ID, "AC-1")).isEqualTo(archived);
+        assertThat(restored.findArchived(CHECKLIST_ID, "AC-2")).isEmpty();
+    }
+
+    @Test
+    void asyncAppendCompletesImmediately() {
+        FileChecklistJournal journal = open("async");
+        assertThat(journal.append(CHECKLIST_ID, "AC-1", update(0))).isDone();
+    }
+
+    @Test
+    void writeFailureFailsPendingEntriesAndRejectsLaterAppends() throws Exception {
+        FileChecklistJournal journal = open("sync");
+        journal.append(CHECKLIST_ID, "AC-1", update(0)).get(10, TimeUnit.SECONDS);
+
+        // Closing the segment under the writer makes its next write fail
+        ((FileChannel) ReflectionTestUtils.getField(journal, "segment")).close();
+
+        CompletableFuture<Void> failed = journal.append(CHECKLIST_ID, "AC-1", update(1));
+        assertThatThrownBy(() -> failed.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(JournalUnavailableException.class);
+        assertThatThrownBy(() -> journal.append(CHECKLIST_ID, "AC-1", update(2)))
+                .isInstanceOf(JournalUnavailableException.class);
+        assertThatThrownBy(journal::snapshot).hasCauseInstanceOf(JournalUnavailableException.class);
+    }
+
+    private FileChecklistJournal open(String durability) {
+        return open(durability, (checklistId, itemId, request) -> { });
+    }
+
+    private FileChecklistJournal open(String durability, ChecklistJournal.ReplayHandler replay) {
+        EvidenceArchive archive = new InMemoryEvidenceArchive();
+        archives.add(archive);
+        FileChecklistJournal journal = new FileChecklistJournal(new ChecklistRepository(), archive, objectMapper,
+                directory.toString(), 0, 1024, durability);
+        journal.recover(replay);
+        opened.add(journal);
+        return journal;
+    }
+
+    private static StatusUpdateRequest update(int index) {
+        return new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL,
+                Evidence.builder().documentId("doc-" + index).confidence(0.5).build());
+    }
+}
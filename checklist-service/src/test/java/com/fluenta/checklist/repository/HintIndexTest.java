@@ -0,0 +1,74 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HintIndexTest {
+    // Overlapping prefixes and suffixes exercise failure and dictionary links; the last ones are non-ASCII
+    private static final String[] VOCABULARY = {
+            "a", "ab", "abc", "bc", "bca", "cab", "ca", "c", "aab", "bb", "ß", "aß", "ßc", "é", "éa"
+    };
+
+    @Test
+    void matchesTheSameHintsAsSubstringSearch() {
+        Random random = new Random(7);
+        List<ChecklistItem> items = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            List<String> hints = new ArrayList<>();
+            int hintCount = 1 + random.nextInt(3);
+            for (int h = 0; h < hintCount; h++) {
+                String hint = VOCABULARY[random.nextInt(VOCABULARY.length)];
+                hints.add(random.nextBoolean() ? hint.toUpperCase(Locale.ROOT) : hint);
+            }
+            items.add(ChecklistItem.builder().id("item-" + i).hints(hints).build());
+        }
+        HintIndex index = new HintIndex(Checklist.builder().id("hints").items(items).build());
+
+        String alphabet = "abcABCßé -";
+        for (int document = 0; document < 500; document++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String lowerCase = text.toString().toLowerCase(Locale.ROOT);
+
+            for (ChecklistItem item : items) {
+                Set<String> distinct = new LinkedHashSet<>();
+                item.getHints().forEach(hint -> distinct.add(hint.toLowerCase(Locale.ROOT)));
+                long matched = distinct.stream().filter(lowerCase::contains).count();
+                int occurrences = distinct.stream().mapToInt(hint -> occurrences(lowerCase, hint)).sum();
+
+                HintIndex.Match match = index.scan(text).stream()
+                        .filter(candidate -> candidate.item() == item)
+                        .findFirst()
+                        .orElse(null);
+                if (matched == 0) {
+                    assertThat(match).as("%s in \"%s\"", item.getHints(), text).isNull();
+                } else {
+                    assertThat(match).as("%s in \"%s\"", item.getHints(), text).isNotNull();
+                    assertThat(match.matchedHints()).isEqualTo(matched);
+                    assertThat(match.occurrences()).as("%s in \"%s\"", item.getHints(), text).isEqualTo(occurrences);
+                }
+            }
+        }
+    }
+
+    private static int occurrences(String text, String hint) {
+        int count = 0;
+        for (int from = text.indexOf(hint); from >= 0; from = text.indexOf(hint, from + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
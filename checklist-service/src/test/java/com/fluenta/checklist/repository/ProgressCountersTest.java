@@ -0,0 +1,87 @@
+package com.fluenta.checklist.repository;
+
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.ProgressResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.fluenta.checklist.model.ChecklistItem.ItemStatus.PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressCountersTest {
+    private static final ChecklistItem.ItemStatus[] STATUSES = ChecklistItem.ItemStatus.values();
+
+    @Test
+    void incrementalCountersMatchRecountAfterRandomTransitions() {
+        Random random = new Random(42);
+        List<ChecklistItem> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(ChecklistItem.builder()
+                    .id("item-" + i)
+                    .category(i % 17 == 0 ? null : "category-" + (i % 7))
+                    .status(randomStatus(random))
+                    .build());
+        }
+        Checklist checklist = Checklist.builder().id("counters").items(items).build();
+        ChecklistRepository repository = new ChecklistRepository();
+        repository.save(checklist);
+
+        for (int step = 0; step < 50_000; step++) {
+            ChecklistItem item = items.get(random.nextInt(items.size()));
+            ChecklistItem.ItemStatus from = item.getStatus();
+            ChecklistItem.ItemStatus to = randomStatus(random);
+            item.setStatus(to);
+            repository.recordTransition(checklist.getId(), item, from, to);
+
+            if (step % 5_000 == 0) {
+                assertMatchesRecount(repository.findCounters(checklist.getId()).orElseThrow(), checklist);
+            }
+        }
+        assertMatchesRecount(repository.findCounters(checklist.getId()).orElseThrow(), checklist);
+    }
+
+    @Test
+    void progressIsReusedUntilTheNextTransition() {
+        ChecklistItem item = ChecklistItem.builder().id("item-0").category("b").status(PENDING).build();
+        Checklist checklist = Checklist.builder().id("progress").items(List.of(
+                item,
+                ChecklistItem.builder().id("item-1").category("a").status(PENDING).build())).build();
+        ProgressCounters counters = ProgressCounters.recount(checklist);
+
+        ProgressResponse before = counters.progress();
+        assertThat(counters.progress()).isSameAs(before);
+        assertThat(before.getCategories().keySet()).containsExactly("a", "b");
+
+        counters.transition("b", PENDING, ChecklistItem.ItemStatus.COMPLETED);
+        ProgressResponse after = counters.progress();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getCompletedItems()).isEqualTo(1);
+        assertThat(after.getPendingItems()).isEqualTo(1);
+        assertThat(after.getCompletionPercentage()).isEqualTo(50.0);
+        assertThat(after.getCategories().get("b").getCompletedItems()).isEqualTo(1);
+        assertThat(before.getCompletedItems()).isZero();
+    }
+
+    private static void assertMatchesRecount(ProgressCounters incremental, Checklist checklist) {
+        ProgressCounters recounted = ProgressCounters.recount(checklist);
+        assertThat(incremental.categories()).containsExactlyInAnyOrderElementsOf(recounted.categories());
+        for (ChecklistItem.ItemStatus status : STATUSES) {
+            assertThat(incremental.count(status)).as("overall %s", status).isEqualTo(recounted.count(status));
+            for (String category : recounted.categories()) {
+                assertThat(incremental.count(category, status))
+                        .as("%s %s", category, status)
+                        .isEqualTo(recounted.count(category, status));
+            }
+        }
+    }
+
+    // Null statuses are included: they are not counted, so transitions to and from null must balance too
+    private static ChecklistItem.ItemStatus randomStatus(Random random) {
+        int pick = random.nextInt(STATUSES.length + 1);
+        return pick == STATUSES.length ? null : STATUSES[pick];
+    }
+}
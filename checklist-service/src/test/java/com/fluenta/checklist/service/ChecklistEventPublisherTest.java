@@ -0,0 +1,106 @@
+package com.fluenta.checklist.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.ItemStatusEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChecklistEventPublisherTest {
+    private static final String CHECKLIST_ID = "events";
+
+    private final ChecklistEventPublisher publisher = new ChecklistEventPublisher(256, 60_000, 1, 200);
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberIsEvictedWithoutHoldingUpOthers() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(new CountDownLatch(1));
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        publisher.register(CHECKLIST_ID, stalled);
+        publisher.register(CHECKLIST_ID, healthy);
+
+        // With one dispatcher thread, whichever subscriber drains first may be the stalled one
+        publisher.publish(CHECKLIST_ID, List.of(event()), null);
+        assertThat(stalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (healthy.sent.get() < 10 && System.nanoTime() < deadline) {
+            publisher.publish(CHECKLIST_ID, List.of(event()), null);
+            Thread.sleep(20);
+        }
+        assertThat(healthy.sent.get()).isGreaterThanOrEqualTo(10);
+        assertThat(publisher.subscriberCount(CHECKLIST_ID)).isEqualTo(1);
+
+        stalled.release.countDown();
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!stalled.completed.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stalled.completed.get()).isTrue();
+        assertThat(stalled.sent.get()).isEqualTo(1);
+        assertThat(healthy.completed.get()).isFalse();
+    }
+
+    @Test
+    void itemEventJsonHasNoDerivedTransitionField() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        assertThat(objectMapper.writeValueAsString(event())).doesNotContain("transition");
+    }
+
+    private static ItemStatusEvent event() {
+        return ItemStatusEvent.builder()
+                .checklistId(CHECKLIST_ID)
+                .itemId("AC-1")
+                .previousStatus(ChecklistItem.ItemStatus.PENDING)
+                .status(ChecklistItem.ItemStatus.PARTIAL)
+                .build();
+    }
+
+    /**
+     * Counts sends instead of writing them; with a latch, the first send blocks like a client that stopped reading.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed.set(true);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.fluenta.checklist.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.Checklist;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.Evidence;
+import com.fluenta.checklist.model.ItemPage;
+import com.fluenta.checklist.model.ItemQuery;
+import com.fluenta.checklist.model.ProgressResponse;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.DocumentRegistry;
+import com.fluenta.checklist.repository.InMemoryEvidenceArchive;
+import com.fluenta.checklist.repository.LocalChecklistOwnership;
+import com.fluenta.checklist.repository.NoOpChecklistJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChecklistServiceConcurrencyTest {
+    private static final String CHECKLIST_ID = "stress";
+    private static final int ITEMS = 50;
+    private static final int THREADS = 16;
+    private static final int READERS = 4;
+    private static final int UPDATES = 10_000;
+
+    private ObjectMapper objectMapper;
+    private ChecklistRepository repository;
+    private ChecklistService service;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        repository = new ChecklistRepository();
+        service = new ChecklistService(repository, new InMemoryEvidenceArchive(), new NoOpChecklistJournal(),
+                new ChecklistNdjsonCodec(objectMapper), objectMapper,
+                new ChecklistEventPublisher(256, 60_000, 1, 5_000),
+                new ChecklistMetrics(new SimpleMeterRegistry(), new DocumentRegistry(1000)),
+                new LocalChecklistOwnership(), new DefaultResourceLoader(), "", 0);
+
+        List<ChecklistItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(ChecklistItem.builder()
+                    .id("item-" + i)
+                    .category("category-" + (i % 5))
+                    .requirement("Requirement " + i)
+                    .status(ChecklistItem.ItemStatus.PENDING)
+                    .build());
+        }
+        repository.save(Checklist.builder().id(CHECKLIST_ID).name("Stress").items(items).build());
+        executor = Executors.newFixedThreadPool(THREADS + READERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentUpdatesKeepEvidenceConfidenceAndProgressConsistent() throws Exception {
+        Map<String, Double> expectedBest = new ConcurrentHashMap<>();
+        Map<String, Integer> expectedEvidence = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+
+        // Readers serialize and query the checklist while it is written, which is where concurrent modification
+        // used to surface
+        for (int r = 0; r < READERS; r++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    readWhileWriting(reads.get());
+                    reads.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(thread);
+                start.await();
+                for (int i = thread; i < UPDATES; i += THREADS) {
+                    String itemId = "item-" + random.nextInt(ITEMS);
+                    // Keep a few updates status-only so they re-derive the status without adding evidence
+                    Evidence evidence = i % 10 == 0 ? null : Evidence.builder()
+                            .documentId("doc-" + i)
+                            .documentName("doc-" + i + ".pdf")
+                            .confidence(Math.round(random.nextDouble() * 1000) / 1000.0)
+                            .uploadedAt(Instant.now())
+                            .build();
+
+                    assertThat(service.updateItemStatus(CHECKLIST_ID, itemId,
+                            new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL, evidence))).isPresent();
+
+                    if (evidence != null) {
+                        expectedBest.merge(itemId, evidence.getConfidence(), Math::max);
+                        expectedEvidence.merge(itemId, 1, Integer::sum);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        assertThat(reads.get()).isPositive();
+
+        Checklist checklist = service.getChecklistById(CHECKLIST_ID).orElseThrow();
+        int totalEvidence = checklist.getItems().stream().mapToInt(item -> item.getEvidence().size()).sum();
+        assertThat(totalEvidence).isEqualTo(UPDATES - UPDATES / 10);
+
+        int completed = 0;
+        int partial = 0;
+        int pending = 0;
+        Map<String, Integer> completedByCategory = new HashMap<>();
+        for (ChecklistItem item : checklist.getItems()) {
+            assertThat(item.getEvidence()).hasSize(expectedEvidence.getOrDefault(item.getId(), 0));
+            assertThat(item.getBestConfidence()).isEqualTo(expectedBest.get(item.getId()));
+            Double best = expectedBest.get(item.getId());
+            if (best != null && best >= 0.7) {
+                assertThat(item.getStatus()).isEqualTo(ChecklistItem.ItemStatus.COMPLETED);
+                completed++;
+                completedByCategory.merge(item.getCategory(), 1, Integer::sum);
+            } else if (best != null && best >= 0.3) {
+                assertThat(item.getStatus()).isEqualTo(ChecklistItem.ItemStatus.PARTIAL);
+                partial++;
+            } else {
+                assertThat(item.getStatus()).isEqualTo(ChecklistItem.ItemStatus.PENDING);
+                pending++;
+            }
+        }
+
+        ProgressResponse progress = service.getProgress(CHECKLIST_ID).orElseThrow();
+        assertThat(progress.getTotalItems()).isEqualTo(ITEMS);
+        assertThat(progress.getCompletedItems()).isEqualTo(completed);
+        assertThat(progress.getPartialItems()).isEqualTo(partial);
+        assertThat(progress.getPendingItems()).isEqualTo(pending);
+        assertThat(progress.getCompletedItems() + progress.getPartialItems() + progress.getPendingItems())
+                .isEqualTo(ITEMS);
+        assertThat(progress.getCategories()).hasSize(5);
+        progress.getCategories().forEach((category, categoryProgress) -> {
+            assertThat(categoryProgress.getTotalItems()).isEqualTo(ITEMS / 5);
+            assertThat(categoryProgress.getCompletedItems()).isEqualTo(completedByCategory.getOrDefault(category, 0));
+        });
+    }
+
+    private void readWhileWriting(long read) throws Exception {
+        Checklist copy = objectMapper.readValue(
+                objectMapper.writeValueAsBytes(service.getChecklistById(CHECKLIST_ID).orElseThrow()), Checklist.class);
+        assertThat(copy.getItems()).hasSize(ITEMS);
+        copy.getItems().forEach(item -> assertThat(item.getEvidence()).hasSizeLessThanOrEqualTo(UPDATES));
+
+        ItemQuery query = ItemQuery.builder()
+                .status(read % 2 == 0 ? ChecklistItem.ItemStatus.PARTIAL : ChecklistItem.ItemStatus.COMPLETED)
+                .fields(read % 3 == 0 ? List.of("id", "status", "bestConfidence", "evidence") : null)
+                .limit(20)
+                .build();
+        int matched = 0;
+        do {
+            ItemPage page = service.queryItems(CHECKLIST_ID, query).orElseThrow();
+            objectMapper.writeValueAsBytes(page);
+            matched += page.getItems().size();
+            query.setCursor(page.getNextCursor() == null ? null : Integer.valueOf(page.getNextCursor()));
+        } while (query.getCursor() != null);
+        assertThat(matched).isLessThanOrEqualTo(ITEMS);
+
+        assertThat(service.getProgress(CHECKLIST_ID).orElseThrow().getTotalItems()).isEqualTo(ITEMS);
+    }
+}
@@ -0,0 +1,103 @@
+package com.fluenta.checklist.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.model.BatchStatusUpdateRequest;
+import com.fluenta.checklist.model.BatchStatusUpdateResponse;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.Evidence;
+import com.fluenta.checklist.model.StatusUpdateRequest;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.DocumentRegistry;
+import com.fluenta.checklist.repository.InMemoryEvidenceArchive;
+import com.fluenta.checklist.repository.LocalChecklistOwnership;
+import com.fluenta.checklist.repository.NoOpChecklistJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChecklistServiceTest {
+    private static final String CHECKLIST_ID = "iso-27001-simplified";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ChecklistService service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        service = new ChecklistService(new ChecklistRepository(), new InMemoryEvidenceArchive(),
+                new NoOpChecklistJournal(), new ChecklistNdjsonCodec(objectMapper), objectMapper,
+                new ChecklistEventPublisher(256, 60_000, 1, 5_000),
+                new ChecklistMetrics(registry, new DocumentRegistry(1000)),
+                new LocalChecklistOwnership(), new DefaultResourceLoader(), "", 0);
+    }
+
+    @Test
+    void batchReportsEntriesWithoutChecklistIdAsNotFound() {
+        BatchStatusUpdateResponse response = service.updateItemStatuses(new BatchStatusUpdateRequest(Arrays.asList(
+                update(CHECKLIST_ID, "AC-1", 0.9),
+                update(null, "AC-2", 0.9),
+                null,
+                update(CHECKLIST_ID, null, 0.9),
+                update("missing", "AC-1", 0.9),
+                update(CHECKLIST_ID, "AC-3", 0.5))));
+
+        assertThat(response.getApplied()).isEqualTo(2);
+        assertThat(response.getNotFound()).isEqualTo(4);
+        assertThat(response.getResults()).extracting(BatchStatusUpdateResponse.ItemResult::getOutcome).containsExactly(
+                BatchStatusUpdateResponse.Outcome.UPDATED,
+                BatchStatusUpdateResponse.Outcome.NOT_FOUND,
+                BatchStatusUpdateResponse.Outcome.NOT_FOUND,
+                BatchStatusUpdateResponse.Outcome.NOT_FOUND,
+                BatchStatusUpdateResponse.Outcome.NOT_FOUND,
+                BatchStatusUpdateResponse.Outcome.UPDATED);
+        assertThat(service.getItem(CHECKLIST_ID, "AC-1").orElseThrow().getStatus())
+                .isEqualTo(ChecklistItem.ItemStatus.COMPLETED);
+        assertThat(service.getItem(CHECKLIST_ID, "AC-2").orElseThrow().getStatus())
+                .isEqualTo(ChecklistItem.ItemStatus.PENDING);
+    }
+
+    @Test
+    void everyUpdatePathRecordsStatusUpdatesButPushedProgressIsNotARead() throws Exception {
+        service.subscribe(CHECKLIST_ID).orElseThrow();
+
+        service.updateItemStatus(CHECKLIST_ID, "AC-1", new StatusUpdateRequest(ChecklistItem.ItemStatus.PARTIAL,
+                Evidence.builder().documentId("doc").confidence(0.9).build()));
+        service.updateItemStatuses(new BatchStatusUpdateRequest(List.of(
+                update(CHECKLIST_ID, "AC-2", 0.9),
+                update(CHECKLIST_ID, "AC-3", 0.5),
+                update(CHECKLIST_ID, "missing", 0.5))));
+        String evidenceLine = "{\"checklistId\":\"" + CHECKLIST_ID + "\",\"itemId\":\"IM-1\","
+                + "\"evidence\":{\"documentId\":\"doc\",\"confidence\":0.9}}\n";
+        service.importNdjson(new ByteArrayInputStream(evidenceLine.getBytes(StandardCharsets.UTF_8)));
+
+        Timer updates = registry.find("checklist.status.update").tag("checklist", CHECKLIST_ID).timer();
+        assertThat(updates).isNotNull();
+        assertThat(updates.count()).isEqualTo(4);
+        assertThat(registry.find("checklist.progress.reads").counter()).isNull();
+
+        service.getProgress(CHECKLIST_ID);
+        Counter reads = registry.find("checklist.progress.reads").tag("checklist", CHECKLIST_ID).counter();
+        assertThat(reads).isNotNull();
+        assertThat(reads.count()).isEqualTo(1);
+    }
+
+    private static BatchStatusUpdateRequest.ItemUpdate update(String checklistId, String itemId, double confidence) {
+        return BatchStatusUpdateRequest.ItemUpdate.builder()
+                .checklistId(checklistId)
+                .itemId(itemId)
+                .status(ChecklistItem.ItemStatus.PARTIAL)
+                .evidence(Evidence.builder().documentId("doc").confidence(confidence).build())
+                .build();
+    }
+}
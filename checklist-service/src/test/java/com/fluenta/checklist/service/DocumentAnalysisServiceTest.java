@@ -0,0 +1,217 @@
+package com.fluenta.checklist.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.checklist.client.EvidenceAnalyzerClient;
+import com.fluenta.checklist.model.BatchStatusUpdateRequest;
+import com.fluenta.checklist.model.BatchStatusUpdateResponse;
+import com.fluenta.checklist.model.ChecklistItem;
+import com.fluenta.checklist.model.DocumentAnalysisRequest;
+import com.fluenta.checklist.model.DocumentAnalysisResponse;
+import com.fluenta.checklist.model.DocumentMatchRequest;
+import com.fluenta.checklist.model.DocumentMatchResult;
+import com.fluenta.checklist.repository.ChecklistRepository;
+import com.fluenta.checklist.repository.DocumentRegistry;
+import com.fluenta.checklist.repository.InMemoryEvidenceArchive;
+import com.fluenta.checklist.repository.LocalChecklistOwnership;
+import com.fluenta.checklist.repository.NoOpChecklistJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentAnalysisServiceTest {
+    private static final String CHECKLIST_ID = "iso-27001-simplified";
+    private static final int MAX_CONCURRENCY = 4;
+
+    private final List<BatchStatusUpdateRequest> batches = new ArrayList<>();
+    private final DocumentRegistry documentRegistry = new DocumentRegistry(1000);
+    private ChecklistRepository repository;
+    private ChecklistService checklistService;
+    private DocumentAnalysisService analysisService;
+    private StubAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        repository = new ChecklistRepository();
+        checklistService = new ChecklistService(repository, new InMemoryEvidenceArchive(),
+                new NoOpChecklistJournal(), new ChecklistNdjsonCodec(objectMapper), objectMapper,
+                new ChecklistEventPublisher(256, 60_000, 1, 5_000),
+                new ChecklistMetrics(new SimpleMeterRegistry(), documentRegistry),
+                new LocalChecklistOwnership(), new DefaultResourceLoader(), "", 0) {
+            @Override
+            public BatchStatusUpdateResponse updateItemStatuses(BatchStatusUpdateRequest request) {
+                batches.add(request);
+                return super.updateItemStatuses(request);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        analysisService.shutdown();
+    }
+
+    @Test
+    void analyzerCallsRunInParallel() {
+        CountDownLatch allInFlight = new CountDownLatch(MAX_CONCURRENCY);
+        useAnalyzer(request -> {
+            // Returns only once every call is in flight at the same time
+            allInFlight.countDown();
+            await(allInFlight);
+            return match(0.9);
+        });
+
+        DocumentAnalysisResponse response = analyze("Controls overview",
+                List.of("AC-1", "AC-2", "IM-1", "DP-1"));
+
+        assertThat(allInFlight.getCount()).isZero();
+        assertThat(analyzer.peakConcurrency.get()).isEqualTo(MAX_CONCURRENCY);
+        assertThat(response.getAnalyzerCalls()).isEqualTo(4);
+        assertThat(response.getMatched()).isEqualTo(4);
+    }
+
+    @Test
+    void failedAnalyzerCallIsReportedAndRecordsNoEvidence() {
+        useAnalyzer(request -> {
+            if (request.getRequirement().startsWith("Incident response")) {
+                throw new ResourceAccessException("analyzer timed out");
+            }
+            return match(0.9);
+        });
+
+        DocumentAnalysisResponse response = analyze("Controls overview", List.of("AC-1", "IM-1"));
+
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getMatched()).isEqualTo(1);
+        DocumentAnalysisResponse.ItemResult failed = result(response, "IM-1");
+        assertThat(failed.getOutcome()).isEqualTo(DocumentAnalysisResponse.Outcome.FAILED);
+        assertThat(failed.getError()).isEqualTo("analyzer timed out");
+        assertThat(item("IM-1").getEvidence()).isEmpty();
+        assertThat(item("IM-1").getStatus()).isEqualTo(ChecklistItem.ItemStatus.PENDING);
+        assertThat(item("AC-1").getStatus()).isEqualTo(ChecklistItem.ItemStatus.COMPLETED);
+    }
+
+    @Test
+    void allMatchesAreAppliedInOneBatch() {
+        useAnalyzer(request -> switch (request.getRequirement()) {
+            case "Password policy documented and enforced" -> match(0.9);
+            case "Incident response plan documented" -> match(0.5);
+            default -> DocumentMatchResult.builder().matches(false).confidence(0.1).build();
+        });
+
+        DocumentAnalysisResponse response = analyze(
+                "Our password policy, incident response plan and backup schedule are attached.", null);
+
+        assertThat(response.getResults()).extracting(DocumentAnalysisResponse.ItemResult::getItemId)
+                .contains("AC-1", "IM-1", "DP-1");
+        assertThat(response.getMatched()).isEqualTo(2);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).getUpdates()).extracting(BatchStatusUpdateRequest.ItemUpdate::getItemId)
+                .containsExactlyInAnyOrder("AC-1", "IM-1");
+        assertThat(result(response, "AC-1").getStatus()).isEqualTo(ChecklistItem.ItemStatus.COMPLETED);
+        assertThat(result(response, "IM-1").getStatus()).isEqualTo(ChecklistItem.ItemStatus.PARTIAL);
+        assertThat(result(response, "DP-1").getOutcome()).isEqualTo(DocumentAnalysisResponse.Outcome.NOT_MATCHED);
+        assertThat(item("DP-1").getEvidence()).isEmpty();
+        assertThat(item("AC-1").getEvidence()).singleElement()
+                .satisfies(evidence -> assertThat(evidence.getDocumentId()).isEqualTo(response.getDocumentId()));
+    }
+
+    @Test
+    void identicalUploadIsNotAnalyzedAgain() {
+        useAnalyzer(request -> match(0.9));
+        analyze("Our password policy is attached.", List.of("AC-1"));
+
+        DocumentAnalysisResponse again = analyze("Our password policy is attached.", List.of("AC-1"));
+
+        assertThat(again.getDuplicate()).isTrue();
+        assertThat(again.getAnalyzerCalls()).isZero();
+        assertThat(result(again, "AC-1").getOutcome())
+                .isEqualTo(DocumentAnalysisResponse.Outcome.ALREADY_RECORDED);
+        assertThat(analyzer.calls.get()).isEqualTo(1);
+        assertThat(batches).hasSize(1);
+    }
+
+    private void useAnalyzer(Function<DocumentMatchRequest, DocumentMatchResult> answer) {
+        analyzer = new StubAnalyzer(answer);
+        analysisService = new DocumentAnalysisService(checklistService, repository, documentRegistry, analyzer,
+                MAX_CONCURRENCY);
+    }
+
+    private DocumentAnalysisResponse analyze(String text, List<String> itemIds) {
+        return analysisService.analyze(CHECKLIST_ID, DocumentAnalysisRequest.builder()
+                .documentName("policies.pdf")
+                .documentText(text)
+                .itemIds(itemIds)
+                .build()).orElseThrow();
+    }
+
+    private ChecklistItem item(String itemId) {
+        return checklistService.getItem(CHECKLIST_ID, itemId).orElseThrow();
+    }
+
+    private static DocumentAnalysisResponse.ItemResult result(DocumentAnalysisResponse response, String itemId) {
+        return response.getResults().stream()
+                .filter(result -> result.getItemId().equals(itemId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static DocumentMatchResult match(double confidence) {
+        return DocumentMatchResult.builder()
+                .matches(true)
+                .confidence(confidence)
+                .relevantSections(List.of("Section 2"))
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("analyzer calls did not overlap");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stands in for the analyzer's {@code /api/analyze/match} and tracks how many calls overlap.
+     */
+    private static final class StubAnalyzer extends EvidenceAnalyzerClient {
+        private final Function<DocumentMatchRequest, DocumentMatchResult> answer;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakConcurrency = new AtomicInteger();
+
+        private StubAnalyzer(Function<DocumentMatchRequest, DocumentMatchResult> answer) {
+            super("http://localhost:1", Duration.ofSeconds(1), Duration.ofSeconds(1));
+            this.answer = answer;
+        }
+
+        @Override
+        public DocumentMatchResult match(DocumentMatchRequest request) {
+            calls.incrementAndGet();
+            peakConcurrency.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                return answer.apply(request);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -2,24 +2,182 @@ package com.fluenta.report.client;
 
 import com.fluenta.report.model.Checklist;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fetches checklists from checklist-service, keeping the last copy of each checklist together with its ETag.
+ * Subsequent fetches send If-None-Match and reuse the cached copy when checklist-service answers 304, so an
+ * unchanged checklist is neither transferred nor deserialized again. Copies are evicted least-recently-used beyond
+ * {@code checklist.cache.max-entries}; each one holds a whole checklist, so the bound is what caps the memory.
+ * <p>
+ * When {@code checklist.service.shards} lists several checklist-service instances, each checklist is fetched
+ * straight from the instance that owns it, using the same consistent-hash ring as the instances themselves.
+ * Redirects are followed either way, so a stale or unsharded configuration still reaches the owner, one hop later.
+ * <p>
+ * With {@code checklist.service.format=smile} checklists are requested in Jackson's Smile binary encoding, with JSON
+ * as the acceptable fallback. Callers that only need item status use the summary methods, which ask for the
+ * {@code summary} view (no evidence or hints); full and summary copies are cached separately.
+ */
 @Component
 public class ChecklistServiceClient {
+    private static final String SMILE_OR_JSON = "application/x-jackson-smile, application/json;q=0.9";
+    private static final int MAX_CONNECTIONS = 500;
+
     private final WebClient webClient;
+    private final ConsistentHashRing ring;
+    private final Map<String, WebClient> shardClients = new HashMap<>();
+    private final String accept;
+    private final boolean cacheEnabled;
+    private final int maxCacheEntries;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedChecklist> cache = new LinkedHashMap<>(16, 0.75f, true);
 
-    public ChecklistServiceClient(@Value("${checklist.service.url}") String checklistServiceUrl) {
-        this.webClient = WebClient.builder()
-                .baseUrl(checklistServiceUrl)
-                .build();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    public ChecklistServiceClient(@Value("${checklist.service.url}") String checklistServiceUrl,
+                                  @Value("${checklist.service.shards:}") List<String> shardUrls,
+                                  @Value("${checklist.service.virtual-nodes:128}") int virtualNodes,
+                                  @Value("${checklist.service.format:smile}") String format,
+                                  @Value("${checklist.cache.enabled:true}") boolean cacheEnabled,
+                                  @Value("${checklist.cache.max-entries:256}") int maxCacheEntries) {
+        this.webClient = webClient(checklistServiceUrl);
+        List<String> shards = shardUrls.stream().map(String::trim).filter(url -> !url.isEmpty())
+                .map(url -> url.endsWith("/") ? url.substring(0, url.length() - 1) : url)
+                .toList();
+        this.ring = shards.isEmpty() ? null : new ConsistentHashRing(shards, virtualNodes);
+        shards.forEach(url -> shardClients.put(url, webClient(url)));
+        this.accept = "smile".equals(format) ? SMILE_OR_JSON : MediaType.APPLICATION_JSON_VALUE;
+        this.cacheEnabled = cacheEnabled;
+        this.maxCacheEntries = maxCacheEntries;
     }
 
     public Checklist getChecklist(String checklistId) {
-        return webClient.get()
-                .uri("/api/checklists/{id}", checklistId)
-                .retrieve()
-                .bodyToMono(Checklist.class)
-                .block();
+        return getChecklistAsync(checklistId).block();
+    }
+
+    public Mono<Checklist> getChecklistAsync(String checklistId) {
+        return fetch(checklistId, "full");
+    }
+
+    /**
+     * The checklist with items reduced to id, category, requirement and status.
+     */
+    public Checklist getChecklistSummary(String checklistId) {
+        return getChecklistSummaryAsync(checklistId).block();
+    }
+
+    public Mono<Checklist> getChecklistSummaryAsync(String checklistId) {
+        return fetch(checklistId, "summary");
+    }
+
+    private Mono<Checklist> fetch(String checklistId, String view) {
+        String cacheKey = checklistId + "?view=" + view;
+        CachedChecklist cached = cacheEnabled ? lookup(cacheKey) : null;
+
+        return clientFor(checklistId).get()
+                .uri("/api/checklists/{id}?view={view}", checklistId, view)
+                .header(HttpHeaders.ACCEPT, accept)
+                .headers(headers -> {
+                    if (cached != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        cacheHits.incrementAndGet();
+                        return response.releaseBody().thenReturn(cached.checklist());
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        evict(cacheKey);
+                        return response.createException().flatMap(Mono::error);
+                    }
+
+                    cacheMisses.incrementAndGet();
+                    String etag = response.headers().asHttpHeaders().getETag();
+                    return response.bodyToMono(Checklist.class)
+                            .doOnNext(checklist -> {
+                                if (cacheEnabled && etag != null) {
+                                    store(cacheKey, new CachedChecklist(etag, checklist));
+                                }
+                            });
+                });
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    private CachedChecklist lookup(String key) {
+        cacheLock.lock();
+        try {
+            return cache.get(key);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void store(String key, CachedChecklist entry) {
+        cacheLock.lock();
+        try {
+            cache.put(key, entry);
+            Iterator<String> eldest = cache.keySet().iterator();
+            while (cache.size() > maxCacheEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void evict(String key) {
+        cacheLock.lock();
+        try {
+            cache.remove(key);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private WebClient clientFor(String checklistId) {
+        return ring == null ? webClient : shardClients.get(ring.ownerOf(checklistId));
+    }
+
+    private static WebClient webClient(String baseUrl) {
+        // Reactive reports can have thousands of fetches outstanding at once: they wait for a connection (bounded
+        // by the report timeout) instead of being rejected once the default pending-acquire queue is full
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("checklist-service")
+                .maxConnections(MAX_CONNECTIONS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                        .followRedirect(true)))
+                .build();
+    }
+
+    private record CachedChecklist(String etag, Checklist checklist) {
     }
 }
@@ -0,0 +1,111 @@
+package com.fluenta.report.client;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many {@link Mono}s run at once without blocking: callers over the limit wait in a FIFO queue and are
+ * subscribed as permits are released. Waiters that are cancelled before they get a permit are skipped.
+ * <p>
+ * A permit is returned exactly once, when the limited call terminates or is cancelled, including when the
+ * cancellation races with the permit being granted.
+ */
+public class ConcurrencyLimiter {
+    private final int maxConcurrency;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public ConcurrencyLimiter(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public <T> Mono<T> limit(Mono<T> source) {
+        return Mono.defer(() -> {
+            Waiter waiter = new Waiter();
+            return Mono.<Void>create(sink -> {
+                        waiter.sink = sink;
+                        if (tryAcquire()) {
+                            if (!waiter.grant()) {
+                                release();
+                            }
+                            return;
+                        }
+                        waiters.add(waiter);
+                        drain();
+                    })
+                    .then(Mono.defer(() -> source))
+                    .doFinally(signal -> {
+                        if (waiter.finish()) {
+                            release();
+                        }
+                    });
+        });
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getQueued() {
+        return waiters.size();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = active.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+        } while (!active.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release() {
+        active.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.grant()) {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Whoever moves the state out of WAITING decides the permit's fate: {@link #grant()} hands it over, and
+     * {@link #finish()} (on termination or cancellation) either withdraws the waiter or returns the permit.
+     */
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int FINISHED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        // Written before the waiter is queued; the queue publishes it to the draining thread
+        private MonoSink<Void> sink;
+
+        private boolean grant() {
+            if (!state.compareAndSet(WAITING, GRANTED)) {
+                return false;
+            }
+            // If the subscriber cancels now, success() is dropped and finish() returns the permit
+            sink.success();
+            return true;
+        }
+
+        /**
+         * Returns whether this waiter held a permit that must now be released.
+         */
+        private boolean finish() {
+            return state.getAndSet(FINISHED) == GRANTED;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fluenta.report.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Consistent-hash assignment of checklists to checklist-service instances.
+ * <p>
+ * Every node is placed on the ring at {@code virtualNodes} points, and a checklist belongs to the first node
+ * clockwise from its shard key, so adding or removing an instance only moves the checklists of its neighbours.
+ * The shard key is the tenant prefix of the checklist id (the part before the first {@code ':'}, e.g.
+ * {@code acme} in {@code acme:iso-27001}), which keeps all of a tenant's checklists on one instance; ids without a
+ * prefix are keyed by the whole id. checklist-service routes with the same algorithm, so both sides must be
+ * configured with the same node list.
+ */
+public class ConsistentHashRing {
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> nodes;
+
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public String ownerOf(String checklistId) {
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hash(shardKey(checklistId)));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    static String shardKey(String checklistId) {
+        int separator = checklistId.indexOf(':');
+        return separator > 0 ? checklistId.substring(0, separator) : checklistId;
+    }
+
+    /**
+     * First eight bytes of the MD5 digest; stable across JVMs and well spread, which is all the ring needs.
+     */
+    static long hash(String key) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+        long hash = 0;
+        for (int i = 0; i < 8; i++) {
+            hash = (hash << 8) | (digest[i] & 0xff);
+        }
+        return hash;
+    }
+}
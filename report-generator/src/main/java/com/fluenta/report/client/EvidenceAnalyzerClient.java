@@ -2,44 +2,92 @@ package com.fluenta.report.client;
 
 import com.fluenta.report.model.GapAnalysisRequest;
 import com.fluenta.report.model.GapAnalysisResponse;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * Client for the evidence analyzer's gap analysis.
+ * <p>
+ * Calls go through a bounded connection pool with connect and response timeouts, a concurrency limit and a
+ * circuit breaker that fails fast while the analyzer keeps failing. With a positive
+ * {@code evidence.analyzer.hedge-delay}, a second identical request is sent when the first has not answered
+ * within that delay, and whichever answers first wins (the other is cancelled).
+ */
 @Component
 public class EvidenceAnalyzerClient {
+    private static final Logger log = LoggerFactory.getLogger(EvidenceAnalyzerClient.class);
+
     private final WebClient webClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration hedgeDelay;
+
+    public EvidenceAnalyzerClient(@Value("${evidence.analyzer.url}") String evidenceAnalyzerUrl,
+                                  @Value("${evidence.analyzer.max-concurrency:16}") int maxConcurrency,
+                                  @Value("${evidence.analyzer.connect-timeout:PT2S}") Duration connectTimeout,
+                                  @Value("${evidence.analyzer.read-timeout:PT20S}") Duration readTimeout,
+                                  @Value("${evidence.analyzer.max-connections:32}") int maxConnections,
+                                  @Value("${evidence.analyzer.circuit.failure-threshold:5}") int failureThreshold,
+                                  @Value("${evidence.analyzer.circuit.open-duration:PT30S}") Duration openDuration,
+                                  @Value("${evidence.analyzer.hedge-delay:PT0S}") Duration hedgeDelay) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("evidence-analyzer")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(connectTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
 
-    public EvidenceAnalyzerClient(@Value("${evidence.analyzer.url}") String evidenceAnalyzerUrl) {
         this.webClient = WebClient.builder()
                 .baseUrl(evidenceAnalyzerUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
+        this.concurrencyLimiter = new ConcurrencyLimiter(maxConcurrency);
+        this.circuitBreaker = new CircuitBreaker("evidence-analyzer", failureThreshold, openDuration);
+        this.hedgeDelay = hedgeDelay;
     }
 
-    public GapAnalysisResponse analyzeGaps(GapAnalysisRequest request) {
-        try {
-            System.out.println("Calling Evidence Analyzer with " + request.getRequirements().size() + " requirements");
-            GapAnalysisResponse response = webClient.post()
-                    .uri("/api/analyze/gaps")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(GapAnalysisResponse.class)
-                    .block();
-
-            if (response != null && response.getSuggestions() != null) {
-                System.out.println("Received " + response.getSuggestions().size() + " AI suggestions");
-            }
-            return response;
-        } catch (Exception e) {
-            // Return fallback response if analyzer is unavailable
-            System.err.println("Failed to call Evidence Analyzer: " + e.getMessage());
-            e.printStackTrace();
-            return GapAnalysisResponse.builder()
-                    .suggestions(java.util.Arrays.asList(
-                        "Upload evidence documents for pending requirements",
-                        "Review and complete partially covered requirements"
-                    ))
-                    .build();
+    /**
+     * Calls the analyzer. Failures are signalled rather than replaced with a canned answer, so callers can tell a
+     * real answer from a failure (and, for example, avoid caching the failure). At most
+     * {@code evidence.analyzer.max-concurrency} calls are in flight at once; further calls queue without blocking
+     * a thread. While the circuit breaker is open this fails immediately with {@link CircuitBreaker.OpenException}.
+     */
+    public Mono<GapAnalysisResponse> requestGapAnalysis(GapAnalysisRequest request) {
+        Mono<GapAnalysisResponse> call = send(request);
+        if (!hedgeDelay.isZero() && !hedgeDelay.isNegative()) {
+            call = Mono.firstWithValue(call, Mono.delay(hedgeDelay).then(send(request)));
         }
+        return circuitBreaker.protect(call);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Mono<GapAnalysisResponse> send(GapAnalysisRequest request) {
+        return concurrencyLimiter.limit(webClient.post()
+                .uri("/api/analyze/gaps")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GapAnalysisResponse.class)
+                .doOnSubscribe(subscription -> log.debug("Calling Evidence Analyzer with {} requirements",
+                        request.getRequirements().size()))
+                .doOnNext(response -> {
+                    if (response.getSuggestions() != null) {
+                        log.debug("Received {} AI suggestions", response.getSuggestions().size());
+                    }
+                }));
     }
 }
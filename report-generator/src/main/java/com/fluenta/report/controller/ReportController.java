@@ -1,41 +1,74 @@
 package com.fluenta.report.controller;
 
 import com.fluenta.report.model.ComplianceReport;
+import com.fluenta.report.model.ComplianceReportBatchRequest;
+import com.fluenta.report.model.ComplianceReportResult;
 import com.fluenta.report.model.GapReport;
 import com.fluenta.report.model.SuggestionRequest;
 import com.fluenta.report.model.SuggestionResponse;
 import com.fluenta.report.service.ReportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/report")
 @CrossOrigin(origins = "*")
 public class ReportController {
     private final ReportService reportService;
+    private final boolean reactive;
+    private final int maxBatchSize;
 
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService,
+                            @Value("${report.reactive.enabled:false}") boolean reactive,
+                            @Value("${report.batch.max-checklists:1000}") int maxBatchSize) {
         this.reportService = reportService;
+        this.reactive = reactive;
+        this.maxBatchSize = maxBatchSize;
     }
 
+    /**
+     * In reactive mode the report is composed without blocking the request thread; otherwise it is generated
+     * synchronously on the request thread as before.
+     */
     @GetMapping("/compliance/{checklistId}")
-    public ResponseEntity<ComplianceReport> getComplianceReport(@PathVariable String checklistId) {
-        try {
-            ComplianceReport report = reportService.generateComplianceReport(checklistId);
-            return ResponseEntity.ok(report);
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
+    public Mono<ResponseEntity<ComplianceReport>> getComplianceReport(@PathVariable String checklistId) {
+        Mono<ComplianceReport> report = reactive
+                ? reportService.generateComplianceReportAsync(checklistId)
+                : Mono.fromCallable(() -> reportService.generateComplianceReport(checklistId));
+        return report
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * Streams one NDJSON line per requested checklist as soon as its report is ready. Missing or failing
+     * checklists are reported in their own line; the response itself is always 200.
+     */
+    @PostMapping(value = "/compliance/batch", produces = "application/x-ndjson")
+    public Flux<ComplianceReportResult> getComplianceReports(@RequestBody ComplianceReportBatchRequest request) {
+        if (request.getChecklistIds() == null || request.getChecklistIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "checklistIds must not be empty");
         }
+        if (request.getChecklistIds().size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + maxBatchSize + " checklists per request");
+        }
+        return reportService.generateComplianceReports(request.getChecklistIds());
     }
 
     @GetMapping("/gaps/{checklistId}")
-    public ResponseEntity<GapReport> getGapReport(@PathVariable String checklistId) {
-        try {
-            GapReport report = reportService.generateGapReport(checklistId);
-            return ResponseEntity.ok(report);
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
-        }
+    public Mono<ResponseEntity<GapReport>> getGapReport(@PathVariable String checklistId) {
+        Mono<GapReport> report = reactive
+                ? reportService.generateGapReportAsync(checklistId)
+                : Mono.fromCallable(() -> reportService.generateGapReport(checklistId));
+        return report
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(ResponseEntity.notFound().build()));
     }
 
     @PostMapping("/suggestions")
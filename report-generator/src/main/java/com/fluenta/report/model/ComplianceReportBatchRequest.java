@@ -0,0 +1,16 @@
+package com.fluenta.report.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplianceReportBatchRequest {
+    private List<String> checklistIds;
+}
@@ -0,0 +1,24 @@
+package com.fluenta.report.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a multi-checklist report stream: either the report or the reason it could not be produced.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplianceReportResult {
+    private String checklistId;
+    private Outcome outcome;
+    private ComplianceReport report;
+    private String error;
+
+    public enum Outcome {
+        OK, NOT_FOUND, FAILED
+    }
+}
@@ -0,0 +1,98 @@
+package com.fluenta.report.service;
+
+import com.fluenta.report.model.Checklist;
+import com.fluenta.report.model.ChecklistItem;
+import com.fluenta.report.model.ComplianceReport;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link ComplianceReport} in a single pass over the checklist items. Each item's status string is
+ * resolved to an {@link ItemStatus} once, then the overall counts, the per-category counts and the requirement
+ * lists are all filled from that one visit.
+ */
+public final class ComplianceAggregator {
+
+    public enum ItemStatus {
+        COMPLETED, PARTIAL, PENDING, OTHER;
+
+        public static ItemStatus of(String status) {
+            if (status == null) {
+                return OTHER;
+            }
+            return switch (status) {
+                case "COMPLETED" -> COMPLETED;
+                case "PARTIAL" -> PARTIAL;
+                case "PENDING" -> PENDING;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private ComplianceAggregator() {
+    }
+
+    public static ComplianceReport aggregate(String checklistId, Checklist checklist) {
+        List<ChecklistItem> items = checklist.getItems();
+        int[] counts = new int[ItemStatus.values().length];
+        Map<String, int[]> categoryCounts = new HashMap<>();
+        List<String> completedReqs = new ArrayList<>();
+        List<String> partialReqs = new ArrayList<>();
+        List<String> pendingReqs = new ArrayList<>();
+
+        for (ChecklistItem item : items) {
+            ItemStatus status = ItemStatus.of(item.getStatus());
+            counts[status.ordinal()]++;
+
+            if (item.getCategory() != null) {
+                // [0] = total, [1] = completed
+                int[] category = categoryCounts.computeIfAbsent(item.getCategory(), c -> new int[2]);
+                category[0]++;
+                if (status == ItemStatus.COMPLETED) {
+                    category[1]++;
+                }
+            }
+
+            switch (status) {
+                case COMPLETED -> completedReqs.add(item.getId() + ": " + item.getRequirement());
+                case PARTIAL -> partialReqs.add(item.getId() + ": " + item.getRequirement());
+                case PENDING -> pendingReqs.add(item.getId() + ": " + item.getRequirement());
+                default -> { }
+            }
+        }
+
+        int total = items.size();
+        int completed = counts[ItemStatus.COMPLETED.ordinal()];
+        ComplianceReport.OverallStatus overallStatus = ComplianceReport.OverallStatus.builder()
+                .totalItems(total)
+                .completedItems(completed)
+                .partialItems(counts[ItemStatus.PARTIAL.ordinal()])
+                .pendingItems(counts[ItemStatus.PENDING.ordinal()])
+                .completionPercentage(total > 0 ? (completed * 100.0 / total) : 0.0)
+                .build();
+
+        Map<String, ComplianceReport.CategorySummary> categorySummaries = new HashMap<>(categoryCounts.size() * 2);
+        categoryCounts.forEach((category, count) -> categorySummaries.put(category,
+                ComplianceReport.CategorySummary.builder()
+                        .category(category)
+                        .total(count[0])
+                        .completed(count[1])
+                        .percentage(count[0] > 0 ? (count[1] * 100.0 / count[0]) : 0.0)
+                        .build()));
+
+        return ComplianceReport.builder()
+                .checklistId(checklistId)
+                .checklistName(checklist.getName())
+                .generatedAt(Instant.now().toString())
+                .overallStatus(overallStatus)
+                .categorySummaries(categorySummaries)
+                .completedRequirements(completedReqs)
+                .partialRequirements(partialReqs)
+                .pendingRequirements(pendingReqs)
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.fluenta.report.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.report.model.GapAnalysisRequest;
+import com.fluenta.report.model.GapAnalysisResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Memoizes analyzer gap-analysis results by a stable hash of the request content (requirement ids, texts and
+ * statuses plus evidence document names), so an unchanged checklist never triggers a second LLM round trip.
+ * <p>
+ * Entries are evicted least-recently-used beyond {@code report.gap-cache.max-entries} and expire after
+ * {@code report.gap-cache.ttl}. Concurrent misses for the same key share one upstream call; each caller gets its
+ * own copy of the shared future, so one caller cancelling (a timed-out reactive report, say) does not fail the
+ * call for the others. Only successful responses are cached. When {@code report.gap-cache.file} is set, live
+ * entries are written there on shutdown and loaded again on startup.
+ */
+@Component
+public class GapAnalysisCache {
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final String persistencePath;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<String, CompletableFuture<GapAnalysisResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    public GapAnalysisCache(ObjectMapper objectMapper,
+                            @Value("${report.gap-cache.max-entries:1000}") int maxEntries,
+                            @Value("${report.gap-cache.ttl:PT1H}") Duration ttl,
+                            @Value("${report.gap-cache.file:}") String persistencePath) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.persistencePath = persistencePath;
+    }
+
+    public CompletableFuture<GapAnalysisResponse> getOrCompute(
+            GapAnalysisRequest request,
+            Function<GapAnalysisRequest, CompletableFuture<GapAnalysisResponse>> loader) {
+        String key = keyOf(request);
+
+        GapAnalysisResponse cached = lookup(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<GapAnalysisResponse> promise = new CompletableFuture<>();
+        CompletableFuture<GapAnalysisResponse> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            collapsed.incrementAndGet();
+            return existing.copy();
+        }
+
+        misses.incrementAndGet();
+        CompletableFuture<GapAnalysisResponse> upstream;
+        try {
+            upstream = loader.apply(request);
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((response, error) -> {
+            if (error == null && response != null) {
+                store(key, new Entry(response, System.currentTimeMillis() + ttlMillis));
+            }
+            inFlight.remove(key, promise);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(response);
+            }
+        });
+        return promise.copy();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getCollapsed() {
+        return collapsed.get();
+    }
+
+    /**
+     * SHA-256 over a canonical rendering of the request; ordering of requirements and evidence does not matter.
+     */
+    static String keyOf(GapAnalysisRequest request) {
+        List<String> parts = new ArrayList<>();
+        for (GapAnalysisRequest.RequirementItem item : nullSafe(request.getRequirements())) {
+            parts.add("R\u0000" + item.getId() + "\u0000" + item.getStatus() + "\u0000" + item.getRequirement());
+        }
+        for (GapAnalysisRequest.EvidenceItem item : nullSafe(request.getEvidenceList())) {
+            parts.add("E\u0000" + item.getDocumentName() + "\u0000" + item.getRequirement());
+        }
+        Collections.sort(parts);
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @PostConstruct
+    void load() throws IOException {
+        if (persistencePath.isBlank() || !Files.exists(Path.of(persistencePath))) {
+            return;
+        }
+        Map<String, Entry> persisted = objectMapper.readValue(Path.of(persistencePath).toFile(),
+                new TypeReference<LinkedHashMap<String, Entry>>() { });
+        long now = System.currentTimeMillis();
+        persisted.forEach((key, entry) -> {
+            if (entry.expiresAt() > now) {
+                store(key, entry);
+            }
+        });
+    }
+
+    @PreDestroy
+    void persist() throws IOException {
+        if (persistencePath.isBlank()) {
+            return;
+        }
+        Map<String, Entry> snapshot;
+        lock.lock();
+        try {
+            snapshot = new LinkedHashMap<>(entries);
+        } finally {
+            lock.unlock();
+        }
+        Path path = Path.of(persistencePath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writeValue(path.toFile(), snapshot);
+    }
+
+    private GapAnalysisResponse lookup(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.response();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(String key, Entry entry) {
+        lock.lock();
+        try {
+            entries.put(key, entry);
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    record Entry(GapAnalysisResponse response, long expiresAt) {
+    }
+}
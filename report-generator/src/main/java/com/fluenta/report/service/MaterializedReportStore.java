@@ -0,0 +1,193 @@
+package com.fluenta.report.service;
+
+import com.fluenta.report.client.ChecklistServiceClient;
+import com.fluenta.report.model.Checklist;
+import com.fluenta.report.model.ComplianceReport;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one materialized {@link ComplianceReport} per checklist, so repeated reads return the stored report
+ * without fetching or aggregating anything.
+ * <p>
+ * A stored report is served as is while it was verified against checklist-service less than
+ * {@code report.materialized.max-staleness} ago. Verification is a conditional fetch by version (ETag): when the
+ * checklist is unchanged the {@link ChecklistServiceClient} hands back the instance it already had (with
+ * {@code checklist.cache.enabled}), and the stored report is kept; only a new version is aggregated again.
+ * A background task re-verifies recently read reports every half staleness bound, so readers rarely wait for
+ * verification, and forgets reports not read for {@code report.materialized.idle-timeout}. A report older than the
+ * bound is never returned: when verification fails the read fails too. Concurrent verifications of one checklist
+ * share a single fetch.
+ */
+@Component
+public class MaterializedReportStore {
+    private static final Logger log = LoggerFactory.getLogger(MaterializedReportStore.class);
+
+    private final ChecklistServiceClient checklistClient;
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+    private final long idleTimeoutNanos;
+    private final Duration timeout;
+    private final int refreshParallelism;
+
+    private final ConcurrentMap<String, Materialized> reports = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<ComplianceReport>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+
+    private final AtomicLong fresh = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong rebuilt = new AtomicLong();
+
+    public MaterializedReportStore(ChecklistServiceClient checklistClient,
+                                   @Value("${report.materialized.enabled:true}") boolean enabled,
+                                   @Value("${report.materialized.max-staleness:PT1S}") Duration maxStaleness,
+                                   @Value("${report.materialized.idle-timeout:PT10M}") Duration idleTimeout,
+                                   @Value("${report.reactive.timeout:PT30S}") Duration timeout,
+                                   @Value("${report.batch.parallelism:16}") int refreshParallelism) {
+        this.checklistClient = checklistClient;
+        this.enabled = enabled;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.timeout = timeout;
+        this.refreshParallelism = refreshParallelism;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled && maxStalenessNanos > 0) {
+            long periodMillis = Math.max(50, maxStaleness.toMillis() / 2);
+            refresher.scheduleWithFixedDelay(this::refreshRecentlyRead, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<ComplianceReport> get(String checklistId) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            Materialized stored = reports.get(checklistId);
+            if (stored != null) {
+                stored.lastReadAt = now;
+                if (now - stored.verifiedAt < maxStalenessNanos) {
+                    fresh.incrementAndGet();
+                    return Mono.just(stored.report);
+                }
+            }
+            return Mono.fromFuture(verify(checklistId), true);
+        });
+    }
+
+    public long getFresh() {
+        return fresh.get();
+    }
+
+    public long getRevalidated() {
+        return revalidated.get();
+    }
+
+    public long getRebuilt() {
+        return rebuilt.get();
+    }
+
+    /**
+     * Fetches the checklist by version and replaces the stored report if the checklist changed. The report counts
+     * as verified at the moment the fetch started, since later changes may not be part of the answer.
+     */
+    private CompletableFuture<ComplianceReport> verify(String checklistId) {
+        CompletableFuture<ComplianceReport> promise = new CompletableFuture<>();
+        CompletableFuture<ComplianceReport> existing = inFlight.putIfAbsent(checklistId, promise);
+        if (existing != null) {
+            return existing;
+        }
+
+        long startedAt = System.nanoTime();
+        checklistClient.getChecklistSummaryAsync(checklistId)
+                .timeout(timeout)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Checklist not found: " + checklistId)))
+                .map(checklist -> materialize(checklistId, checklist, startedAt))
+                .subscribe(report -> {
+                    inFlight.remove(checklistId, promise);
+                    promise.complete(report);
+                }, error -> {
+                    if (error instanceof WebClientResponseException.NotFound) {
+                        reports.remove(checklistId);
+                    }
+                    inFlight.remove(checklistId, promise);
+                    promise.completeExceptionally(error);
+                });
+        return promise;
+    }
+
+    private ComplianceReport materialize(String checklistId, Checklist checklist, long verifiedAt) {
+        Materialized stored = reports.get(checklistId);
+        if (stored != null && stored.source == checklist) {
+            revalidated.incrementAndGet();
+            stored.verifiedAt = Math.max(stored.verifiedAt, verifiedAt);
+            return stored.report;
+        }
+        rebuilt.incrementAndGet();
+        Materialized rebuiltReport = new Materialized(checklist, ComplianceAggregator.aggregate(checklistId, checklist),
+                verifiedAt, stored == null ? verifiedAt : stored.lastReadAt);
+        reports.put(checklistId, rebuiltReport);
+        return rebuiltReport.report;
+    }
+
+    private void refreshRecentlyRead() {
+        try {
+            long now = System.nanoTime();
+            reports.entrySet().removeIf(entry -> now - entry.getValue().lastReadAt > idleTimeoutNanos);
+            List<String> due = reports.entrySet().stream()
+                    .filter(entry -> now - entry.getValue().verifiedAt >= maxStalenessNanos / 2)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            Flux.fromIterable(due)
+                    .flatMap(checklistId -> Mono.fromFuture(verify(checklistId), true)
+                            .onErrorResume(error -> {
+                                log.debug("Could not refresh report for {}: {}", checklistId, error.getMessage());
+                                return Mono.empty();
+                            }), refreshParallelism)
+                    .blockLast();
+        } catch (RuntimeException e) {
+            log.warn("Report refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static final class Materialized {
+        private final Checklist source;
+        private final ComplianceReport report;
+        private volatile long verifiedAt;
+        private volatile long lastReadAt;
+
+        private Materialized(Checklist source, ComplianceReport report, long verifiedAt, long lastReadAt) {
+            this.source = source;
+            this.report = report;
+            this.verifiedAt = verifiedAt;
+            this.lastReadAt = lastReadAt;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fluenta.report.service;
+
+import com.fluenta.report.client.ChecklistServiceClient;
+import com.fluenta.report.client.CircuitBreaker;
+import com.fluenta.report.client.EvidenceAnalyzerClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer meters for report-generator, exposed at {@code /actuator/prometheus}.
+ * <p>
+ * All meters are registered up front and latencies are recorded from {@link System#nanoTime()} deltas. Cache
+ * meters read the counters the caches already keep, so they cost nothing until scraped.
+ */
+@Component
+public class ReportMetrics {
+    public enum ReportType {
+        COMPLIANCE, GAPS
+    }
+
+    private final Timer complianceReports;
+    private final Timer gapReports;
+    private final Timer analyzerSuccess;
+    private final Timer analyzerError;
+    private final Counter analyzerFallbacks;
+
+    public ReportMetrics(MeterRegistry registry, GapAnalysisCache gapAnalysisCache, MaterializedReportStore reportStore,
+                         ChecklistServiceClient checklistClient, EvidenceAnalyzerClient evidenceAnalyzerClient) {
+        this.complianceReports = reportTimer(registry, "compliance");
+        this.gapReports = reportTimer(registry, "gaps");
+        this.analyzerSuccess = analyzerTimer(registry, "success");
+        this.analyzerError = analyzerTimer(registry, "error");
+        this.analyzerFallbacks = Counter.builder("report.analyzer.fallbacks")
+                .description("Gap reports served with generic recommendations because the analyzer failed")
+                .register(registry);
+        Gauge.builder("report.analyzer.circuit.open", evidenceAnalyzerClient,
+                        client -> client.getCircuitState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while the analyzer circuit breaker is open or half-open")
+                .register(registry);
+
+        cacheCounter(registry, "gap-analysis", "hit", gapAnalysisCache, GapAnalysisCache::getHits);
+        cacheCounter(registry, "gap-analysis", "miss", gapAnalysisCache, GapAnalysisCache::getMisses);
+        cacheCounter(registry, "gap-analysis", "collapsed", gapAnalysisCache, GapAnalysisCache::getCollapsed);
+        cacheRatio(registry, "gap-analysis", gapAnalysisCache,
+                cache -> ratio(cache.getHits() + cache.getCollapsed(), cache.getMisses()));
+
+        cacheCounter(registry, "compliance-report", "hit", reportStore, MaterializedReportStore::getFresh);
+        cacheCounter(registry, "compliance-report", "revalidated", reportStore, MaterializedReportStore::getRevalidated);
+        cacheCounter(registry, "compliance-report", "miss", reportStore, MaterializedReportStore::getRebuilt);
+        cacheRatio(registry, "compliance-report", reportStore,
+                store -> ratio(store.getFresh() + store.getRevalidated(), store.getRebuilt()));
+
+        cacheCounter(registry, "checklist", "hit", checklistClient, ChecklistServiceClient::getCacheHits);
+        cacheCounter(registry, "checklist", "miss", checklistClient, ChecklistServiceClient::getCacheMisses);
+        cacheRatio(registry, "checklist", checklistClient,
+                client -> ratio(client.getCacheHits(), client.getCacheMisses()));
+    }
+
+    public void recordReport(ReportType type, long elapsedNanos) {
+        (type == ReportType.COMPLIANCE ? complianceReports : gapReports).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAnalyzerCall(boolean success, long elapsedNanos) {
+        (success ? analyzerSuccess : analyzerError).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAnalyzerFallback() {
+        analyzerFallbacks.increment();
+    }
+
+    private static Timer reportTimer(MeterRegistry registry, String type) {
+        return Timer.builder("report.generation")
+                .description("Report generation latency")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private static Timer analyzerTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("report.analyzer.calls")
+                .description("Evidence analyzer gap-analysis calls (cache misses only)")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static <T> void cacheCounter(MeterRegistry registry, String cache, String result, T source,
+                                         ToDoubleFunction<T> count) {
+        FunctionCounter.builder("report.cache.requests", source, count)
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static <T> void cacheRatio(MeterRegistry registry, String cache, T source, ToDoubleFunction<T> ratio) {
+        Gauge.builder("report.cache.hit.ratio", source, ratio)
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
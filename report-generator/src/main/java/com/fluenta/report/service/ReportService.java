@@ -3,98 +3,169 @@ package com.fluenta.report.service;
 import com.fluenta.report.client.ChecklistServiceClient;
 import com.fluenta.report.client.EvidenceAnalyzerClient;
 import com.fluenta.report.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
 public class ReportService {
+    private static final Logger log = LoggerFactory.getLogger(ReportService.class);
+
     private final ChecklistServiceClient checklistClient;
     private final EvidenceAnalyzerClient evidenceAnalyzerClient;
-
-    public ReportService(ChecklistServiceClient checklistClient, EvidenceAnalyzerClient evidenceAnalyzerClient) {
+    private final GapAnalysisCache gapAnalysisCache;
+    private final MaterializedReportStore reportStore;
+    private final ReportMetrics metrics;
+    private final Duration timeout;
+    private final int batchParallelism;
+
+    public ReportService(ChecklistServiceClient checklistClient,
+                         EvidenceAnalyzerClient evidenceAnalyzerClient,
+                         GapAnalysisCache gapAnalysisCache,
+                         MaterializedReportStore reportStore,
+                         ReportMetrics metrics,
+                         @Value("${report.reactive.timeout:PT30S}") Duration timeout,
+                         @Value("${report.batch.parallelism:16}") int batchParallelism) {
         this.checklistClient = checklistClient;
         this.evidenceAnalyzerClient = evidenceAnalyzerClient;
+        this.gapAnalysisCache = gapAnalysisCache;
+        this.reportStore = reportStore;
+        this.metrics = metrics;
+        this.timeout = timeout;
+        this.batchParallelism = batchParallelism;
     }
 
     public ComplianceReport generateComplianceReport(String checklistId) {
-        Checklist checklist = checklistClient.getChecklist(checklistId);
+        long start = System.nanoTime();
+        try {
+            if (reportStore.isEnabled()) {
+                return reportStore.get(checklistId).block();
+            }
+            return ComplianceAggregator.aggregate(checklistId, requireChecklist(checklistClient.getChecklistSummary(checklistId), checklistId));
+        } finally {
+            metrics.recordReport(ReportMetrics.ReportType.COMPLIANCE, System.nanoTime() - start);
+        }
+    }
 
-        if (checklist == null) {
-            throw new RuntimeException("Checklist not found: " + checklistId);
+    public Mono<ComplianceReport> generateComplianceReportAsync(String checklistId) {
+        if (reportStore.isEnabled()) {
+            return timed(ReportMetrics.ReportType.COMPLIANCE, reportStore.get(checklistId));
         }
+        return timed(ReportMetrics.ReportType.COMPLIANCE, fetchChecklist(checklistId, checklistClient.getChecklistSummaryAsync(checklistId))
+                .map(checklist -> ComplianceAggregator.aggregate(checklistId, checklist)));
+    }
 
-        List<ChecklistItem> items = checklist.getItems();
+    /**
+     * Generates compliance reports for many checklists, fetching and building at most
+     * {@code report.batch.parallelism} at a time. Results are emitted in completion order, and a checklist that
+     * is missing or fails yields a result with that outcome instead of failing the whole stream.
+     */
+    public Flux<ComplianceReportResult> generateComplianceReports(List<String> checklistIds) {
+        return Flux.fromIterable(new LinkedHashSet<>(checklistIds))
+                .flatMap(checklistId -> generateComplianceReportAsync(checklistId)
+                        .map(report -> ComplianceReportResult.builder()
+                                .checklistId(checklistId)
+                                .outcome(ComplianceReportResult.Outcome.OK)
+                                .report(report)
+                                .build())
+                        .onErrorResume(e -> Mono.just(failedResult(checklistId, e))), batchParallelism);
+    }
 
-        // Calculate overall status
-        long completed = items.stream().filter(i -> "COMPLETED".equals(i.getStatus())).count();
-        long partial = items.stream().filter(i -> "PARTIAL".equals(i.getStatus())).count();
-        long pending = items.stream().filter(i -> "PENDING".equals(i.getStatus())).count();
+    public GapReport generateGapReport(String checklistId) {
+        long start = System.nanoTime();
+        try {
+            Checklist checklist = requireChecklist(checklistClient.getChecklist(checklistId), checklistId);
+            List<GapReport.Gap> gaps = findGaps(checklist);
+
+            GapAnalysisResponse aiResponse = null;
+            if (!gaps.isEmpty()) {
+                try {
+                    aiResponse = analyzeGaps(buildGapAnalysisRequest(checklist)).join();
+                } catch (Exception e) {
+                    log.warn("Failed to get AI recommendations for {}: {}", checklistId, e.getMessage());
+                    metrics.recordAnalyzerFallback();
+                }
+            }
+            return assembleGapReport(checklistId, gaps, aiResponse);
+        } finally {
+            metrics.recordReport(ReportMetrics.ReportType.GAPS, System.nanoTime() - start);
+        }
+    }
 
-        ComplianceReport.OverallStatus overallStatus = ComplianceReport.OverallStatus.builder()
-                .totalItems(items.size())
-                .completedItems((int) completed)
-                .partialItems((int) partial)
-                .pendingItems((int) pending)
-                .completionPercentage(items.size() > 0 ? (completed * 100.0 / items.size()) : 0.0)
-                .build();
+    /**
+     * Non-blocking variant of {@link #generateGapReport(String)}: the checklist fetch and the analyzer call are
+     * composed without parking a thread, and an analyzer failure or timeout degrades to the generic
+     * recommendations exactly like the blocking path.
+     */
+    public Mono<GapReport> generateGapReportAsync(String checklistId) {
+        return timed(ReportMetrics.ReportType.GAPS, fetchChecklist(checklistId, checklistClient.getChecklistAsync(checklistId))
+                .flatMap(checklist -> {
+                    List<GapReport.Gap> gaps = findGaps(checklist);
+                    if (gaps.isEmpty()) {
+                        return Mono.just(assembleGapReport(checklistId, gaps, null));
+                    }
+                    return Mono.fromFuture(() -> analyzeGaps(buildGapAnalysisRequest(checklist)))
+                            .timeout(timeout)
+                            .map(aiResponse -> assembleGapReport(checklistId, gaps, aiResponse))
+                            .switchIfEmpty(Mono.fromSupplier(() -> assembleGapReport(checklistId, gaps, null)))
+                            .onErrorResume(e -> {
+                                log.warn("Failed to get AI recommendations for {}: {}", checklistId, e.getMessage());
+                                metrics.recordAnalyzerFallback();
+                                return Mono.just(assembleGapReport(checklistId, gaps, null));
+                            });
+                }));
+    }
 
-        // Calculate category summaries
-        Map<String, List<ChecklistItem>> itemsByCategory = items.stream()
-                .collect(Collectors.groupingBy(ChecklistItem::getCategory));
-
-        Map<String, ComplianceReport.CategorySummary> categorySummaries = new HashMap<>();
-        itemsByCategory.forEach((category, categoryItems) -> {
-            long categoryCompleted = categoryItems.stream()
-                    .filter(i -> "COMPLETED".equals(i.getStatus()))
-                    .count();
-
-            categorySummaries.put(category, ComplianceReport.CategorySummary.builder()
-                    .category(category)
-                    .total(categoryItems.size())
-                    .completed((int) categoryCompleted)
-                    .percentage(categoryItems.size() > 0 ? (categoryCompleted * 100.0 / categoryItems.size()) : 0.0)
-                    .build());
+    private <T> Mono<T> timed(ReportMetrics.ReportType type, Mono<T> report) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return report.doFinally(signal -> metrics.recordReport(type, System.nanoTime() - start));
         });
+    }
 
-        // Categorize requirements
-        List<String> completedReqs = items.stream()
-                .filter(i -> "COMPLETED".equals(i.getStatus()))
-                .map(i -> i.getId() + ": " + i.getRequirement())
-                .collect(Collectors.toList());
-
-        List<String> partialReqs = items.stream()
-                .filter(i -> "PARTIAL".equals(i.getStatus()))
-                .map(i -> i.getId() + ": " + i.getRequirement())
-                .collect(Collectors.toList());
-
-        List<String> pendingReqs = items.stream()
-                .filter(i -> "PENDING".equals(i.getStatus()))
-                .map(i -> i.getId() + ": " + i.getRequirement())
-                .collect(Collectors.toList());
+    private Mono<Checklist> fetchChecklist(String checklistId, Mono<Checklist> checklist) {
+        return checklist
+                .timeout(timeout)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Checklist not found: " + checklistId)));
+    }
 
-        return ComplianceReport.builder()
+    private ComplianceReportResult failedResult(String checklistId, Throwable error) {
+        boolean notFound = error instanceof WebClientResponseException.NotFound;
+        return ComplianceReportResult.builder()
                 .checklistId(checklistId)
-                .checklistName(checklist.getName())
-                .generatedAt(Instant.now().toString())
-                .overallStatus(overallStatus)
-                .categorySummaries(categorySummaries)
-                .completedRequirements(completedReqs)
-                .partialRequirements(partialReqs)
-                .pendingRequirements(pendingReqs)
+                .outcome(notFound ? ComplianceReportResult.Outcome.NOT_FOUND : ComplianceReportResult.Outcome.FAILED)
+                .error(error.getMessage())
                 .build();
     }
 
-    public GapReport generateGapReport(String checklistId) {
-        Checklist checklist = checklistClient.getChecklist(checklistId);
-
+    private Checklist requireChecklist(Checklist checklist, String checklistId) {
         if (checklist == null) {
             throw new RuntimeException("Checklist not found: " + checklistId);
         }
+        return checklist;
+    }
 
-        List<GapReport.Gap> gaps = checklist.getItems().stream()
+    private CompletableFuture<GapAnalysisResponse> analyzeGaps(GapAnalysisRequest gapRequest) {
+        // Reuse the analyzer result for unchanged checklists
+        return gapAnalysisCache.getOrCompute(gapRequest, request -> {
+            long start = System.nanoTime();
+            return evidenceAnalyzerClient.requestGapAnalysis(request).toFuture()
+                    .whenComplete((response, error) -> metrics.recordAnalyzerCall(error == null, System.nanoTime() - start));
+        });
+    }
+
+    private List<GapReport.Gap> findGaps(Checklist checklist) {
+        return checklist.getItems().stream()
                 .filter(item -> !"COMPLETED".equals(item.getStatus()))
                 .map(item -> GapReport.Gap.builder()
                         .requirementId(item.getId())
@@ -104,76 +175,56 @@ public class ReportService {
                         .reason(item.getEvidence().isEmpty() ? "No evidence provided" : "Incomplete evidence")
                         .build())
                 .collect(Collectors.toList());
+    }
+
+    private GapAnalysisRequest buildGapAnalysisRequest(Checklist checklist) {
+        List<GapAnalysisRequest.RequirementItem> requirementItems = checklist.getItems().stream()
+                .map(item -> GapAnalysisRequest.RequirementItem.builder()
+                        .id(item.getId())
+                        .requirement(item.getRequirement())
+                        .status(item.getStatus())
+                        .build())
+                .collect(Collectors.toList());
+
+        List<GapAnalysisRequest.EvidenceItem> evidenceItems = checklist.getItems().stream()
+                .filter(item -> !item.getEvidence().isEmpty())
+                .flatMap(item -> item.getEvidence().stream()
+                        .map(evidence -> GapAnalysisRequest.EvidenceItem.builder()
+                                .documentName(evidence.getDocumentName())
+                                .requirement(item.getRequirement())
+                                .build()))
+                .collect(Collectors.toList());
+
+        return GapAnalysisRequest.builder()
+                .requirements(requirementItems)
+                .evidenceList(evidenceItems)
+                .build();
+    }
 
-        // Get AI-powered recommendations and critical gaps from Evidence Analyzer
+    /**
+     * Combines the gaps with AI-provided recommendations and critical gaps. A null {@code aiResponse} means the
+     * analyzer was unavailable and generic recommendations are used instead.
+     */
+    private GapReport assembleGapReport(String checklistId, List<GapReport.Gap> gaps, GapAnalysisResponse aiResponse) {
         List<String> criticalGaps = new ArrayList<>();
         List<String> recommendations = new ArrayList<>();
         if (!gaps.isEmpty()) {
-            try {
-                // Build request for Evidence Analyzer
-                List<GapAnalysisRequest.RequirementItem> requirementItems = checklist.getItems().stream()
-                        .map(item -> GapAnalysisRequest.RequirementItem.builder()
-                                .id(item.getId())
-                                .requirement(item.getRequirement())
-                                .status(item.getStatus())
-                                .build())
-                        .collect(Collectors.toList());
-
-                List<GapAnalysisRequest.EvidenceItem> evidenceItems = checklist.getItems().stream()
-                        .filter(item -> !item.getEvidence().isEmpty())
-                        .flatMap(item -> item.getEvidence().stream()
-                                .map(evidence -> GapAnalysisRequest.EvidenceItem.builder()
-                                        .documentName(evidence.getDocumentName())
-                                        .requirement(item.getRequirement())
-                                        .build()))
-                        .collect(Collectors.toList());
-
-                GapAnalysisRequest gapRequest = GapAnalysisRequest.builder()
-                        .requirements(requirementItems)
-                        .evidenceList(evidenceItems)
-                        .build();
-
-                // Call Evidence Analyzer for AI suggestions and critical gaps
-                GapAnalysisResponse aiResponse = evidenceAnalyzerClient.analyzeGaps(gapRequest);
-
-                if (aiResponse != null) {
-                    // Use AI-provided suggestions
-                    if (aiResponse.getSuggestions() != null && !aiResponse.getSuggestions().isEmpty()) {
-                        recommendations = new ArrayList<>(aiResponse.getSuggestions());
-
-                        // Ensure we have recommendations for PARTIAL items (AI sometimes misses them)
-                        for (GapReport.Gap gap : gaps) {
-                            if ("PARTIAL".equals(gap.getStatus())) {
-                                String gapId = gap.getRequirementId();
-                                // Check if this gap already has a recommendation
-                                boolean hasRecommendation = recommendations.stream()
-                                    .anyMatch(rec -> rec.contains(gapId) || rec.toLowerCase().contains(gap.getRequirement().toLowerCase()));
-
-                                if (!hasRecommendation) {
-                                    recommendations.add(String.format("Complete documentation for %s (%s) - currently partially covered",
-                                        gap.getRequirement(), gapId));
-                                }
-                            }
-                        }
-                    } else {
-                        // Fallback to generic recommendations
-                        recommendations.add("Upload evidence documents for pending requirements");
-                        recommendations.add("Review and complete partially covered requirements");
-                    }
-
-                    // Use AI-provided critical gaps, supplemented with critical categories
-                    if (aiResponse.getCriticalGaps() != null && !aiResponse.getCriticalGaps().isEmpty()) {
-                        criticalGaps = new ArrayList<>(aiResponse.getCriticalGaps());
-                    }
+            if (aiResponse != null) {
+                // Use AI-provided suggestions
+                if (aiResponse.getSuggestions() != null && !aiResponse.getSuggestions().isEmpty()) {
+                    recommendations = new ArrayList<>(aiResponse.getSuggestions());
 
-                    // Ensure all critical categories are represented (AI sometimes misses some)
-                    List<String> criticalCategories = Arrays.asList("Access Control", "Data Protection", "Risk Management");
+                    // Ensure we have recommendations for PARTIAL items (AI sometimes misses them)
                     for (GapReport.Gap gap : gaps) {
-                        if ("PENDING".equals(gap.getStatus()) &&
-                                criticalCategories.contains(gap.getCategory())) {
-                            String gapString = gap.getRequirementId() + ": " + gap.getRequirement();
-                            if (!criticalGaps.contains(gapString)) {
-                                criticalGaps.add(gapString);
+                        if ("PARTIAL".equals(gap.getStatus())) {
+                            String gapId = gap.getRequirementId();
+                            // Check if this gap already has a recommendation
+                            boolean hasRecommendation = recommendations.stream()
+                                .anyMatch(rec -> rec.contains(gapId) || rec.toLowerCase().contains(gap.getRequirement().toLowerCase()));
+
+                            if (!hasRecommendation) {
+                                recommendations.add(String.format("Complete documentation for %s (%s) - currently partially covered",
+                                    gap.getRequirement(), gapId));
                             }
                         }
                     }
@@ -182,8 +233,24 @@ public class ReportService {
                     recommendations.add("Upload evidence documents for pending requirements");
                     recommendations.add("Review and complete partially covered requirements");
                 }
-            } catch (Exception e) {
-                System.err.println("Failed to get AI recommendations: " + e.getMessage());
+
+                // Use AI-provided critical gaps, supplemented with critical categories
+                if (aiResponse.getCriticalGaps() != null && !aiResponse.getCriticalGaps().isEmpty()) {
+                    criticalGaps = new ArrayList<>(aiResponse.getCriticalGaps());
+                }
+
+                // Ensure all critical categories are represented (AI sometimes misses some)
+                List<String> criticalCategories = Arrays.asList("Access Control", "Data Protection", "Risk Management");
+                for (GapReport.Gap gap : gaps) {
+                    if ("PENDING".equals(gap.getStatus()) &&
+                            criticalCategories.contains(gap.getCategory())) {
+                        String gapString = gap.getRequirementId() + ": " + gap.getRequirement();
+                        if (!criticalGaps.contains(gapString)) {
+                            criticalGaps.add(gapString);
+                        }
+                    }
+                }
+            } else {
                 // Fallback to generic recommendations
                 recommendations.add("Upload evidence documents for pending requirements");
                 recommendations.add("Review and complete partially covered requirements");
@@ -0,0 +1,109 @@
+package com.fluenta.report.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    private final CircuitBreaker breaker = new CircuitBreaker("analyzer", 3, OPEN_DURATION);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void opensAfterConsecutiveFailuresAndThenFailsFast() {
+        fail();
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> breaker.protect(counted(Mono.just("ok"))).block())
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        fail();
+        fail();
+        assertThat(breaker.protect(counted(Mono.just("ok"))).block()).isEqualTo("ok");
+        fail();
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenLetsOneTrialThroughAndSuccessCloses() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        Sinks.One<String> trial = Sinks.one();
+        AtomicInteger results = new AtomicInteger();
+        breaker.protect(counted(trial.asMono())).subscribe(value -> results.incrementAndGet());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(() -> breaker.protect(counted(Mono.just("ok"))).block())
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+
+        trial.tryEmitValue("ok");
+        assertThat(results).hasValue(1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.protect(counted(Mono.just("ok"))).block()).isEqualTo("ok");
+    }
+
+    @Test
+    void failedTrialOpensAgainForAnotherFullPeriod() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.protect(counted(Mono.just("ok"))).block())
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        assertThat(breaker.protect(counted(Mono.just("ok"))).block()).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void cancelledTrialLetsTheNextCallerTry() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        Disposable trial = breaker.protect(counted(Mono.never())).subscribe();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        trial.dispose();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // No new waiting period: the cancelled trial proved nothing either way
+        assertThat(breaker.protect(counted(Mono.just("ok"))).block()).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> breaker.protect(counted(Mono.error(new IllegalStateException("down")))).block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private <T> Mono<T> counted(Mono<T> source) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return source;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.fluenta.report.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void queuesCallsBeyondTheLimitAndRunsThemAsPermitsFree() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+        List<Sinks.One<String>> calls = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Sinks.One<String> call = Sinks.one();
+            calls.add(call);
+            limiter.limit(call.asMono()).subscribe(results::add);
+        }
+        assertThat(limiter.getActive()).isEqualTo(2);
+        assertThat(limiter.getQueued()).isEqualTo(2);
+
+        calls.get(0).tryEmitValue("first");
+        assertThat(limiter.getActive()).isEqualTo(2);
+        assertThat(limiter.getQueued()).isEqualTo(1);
+
+        calls.get(1).tryEmitValue("second");
+        calls.get(2).tryEmitValue("third");
+        calls.get(3).tryEmitValue("fourth");
+        assertThat(results).containsExactly("first", "second", "third", "fourth");
+        assertThat(limiter.getActive()).isZero();
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void cancelledWaitersAreSkipped() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        Sinks.One<String> running = Sinks.one();
+        limiter.limit(running.asMono()).subscribe();
+        AtomicInteger subscribed = new AtomicInteger();
+        Disposable waiting = limiter.limit(Mono.fromCallable(subscribed::incrementAndGet)).subscribe();
+
+        waiting.dispose();
+        running.tryEmitValue("done");
+
+        assertThat(subscribed).hasValue(0);
+        assertThat(limiter.getActive()).isZero();
+    }
+
+    @Test
+    void noPermitLeaksWhenCancellationsRaceWithGrants() throws InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(4);
+        int calls = 20_000;
+        CountDownLatch settled = new CountDownLatch(calls);
+
+        Flux.range(0, calls)
+                .parallel(4)
+                .runOn(Schedulers.parallel())
+                .subscribe(i -> {
+                    Disposable call = limiter.limit(Mono.delay(Duration.ofNanos(ThreadLocalRandom.current()
+                                    .nextInt(50_000))))
+                            .doFinally(signal -> settled.countDown())
+                            .subscribe();
+                    if (i % 2 == 0) {
+                        // Cancel from another thread, so some cancellations land while the permit is being granted
+                        Schedulers.parallel().schedule(call::dispose);
+                    }
+                });
+
+        assertThat(settled.await(30, TimeUnit.SECONDS)).isTrue();
+        // A completed call returns its permit just after its subscriber is signalled, so allow a moment
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.getActive() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(limiter.getActive()).isZero();
+        assertThat(limiter.getQueued()).isZero();
+    }
+}
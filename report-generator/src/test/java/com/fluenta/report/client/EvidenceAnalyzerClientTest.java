@@ -0,0 +1,136 @@
+package com.fluenta.report.client;
+
+import com.fluenta.report.model.GapAnalysisRequest;
+import com.fluenta.report.model.GapAnalysisResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the client against an in-process analyzer whose answer to the n-th request (latency and status) is
+ * scripted per test.
+ */
+class EvidenceAnalyzerClientTest {
+    private static final String BODY = "{\"suggestions\":[\"Upload the access policy\"],\"criticalGaps\":[]}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Map<Integer, Boolean> completed = new ConcurrentHashMap<>();
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void slowFirstAnswerIsHedgedAndTheFasterOneWins() {
+        EvidenceAnalyzerClient client = client(Duration.ofMillis(100), 5,
+                n -> n == 1 ? new Answer(Duration.ofSeconds(5), 200) : new Answer(Duration.ZERO, 200));
+
+        long start = System.nanoTime();
+        GapAnalysisResponse response = client.requestGapAnalysis(request()).block(Duration.ofSeconds(3));
+
+        assertThat(response.getSuggestions()).containsExactly("Upload the access policy");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(requests).hasValue(2);
+        assertThat(completed).containsOnlyKeys(2);
+    }
+
+    @Test
+    void fastAnswerIsNotHedged() throws InterruptedException {
+        EvidenceAnalyzerClient client = client(Duration.ofMillis(300), 5, n -> new Answer(Duration.ZERO, 200));
+
+        assertThat(client.requestGapAnalysis(request()).block(Duration.ofSeconds(3))).isNotNull();
+        Thread.sleep(500);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void failedFirstRequestIsCoveredByTheHedge() {
+        EvidenceAnalyzerClient client = client(Duration.ofMillis(100), 5,
+                n -> n == 1 ? new Answer(Duration.ZERO, 500) : new Answer(Duration.ZERO, 200));
+
+        assertThat(client.requestGapAnalysis(request()).block(Duration.ofSeconds(3))).isNotNull();
+        assertThat(requests).hasValue(2);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void repeatedFailuresOpenTheCircuitAndStopCallingTheAnalyzer() {
+        EvidenceAnalyzerClient client = client(Duration.ZERO, 2, n -> new Answer(Duration.ZERO, 503));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.requestGapAnalysis(request()).block(Duration.ofSeconds(3)))
+                    .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        }
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.requestGapAnalysis(request()).block(Duration.ofSeconds(3)))
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void hedgedCallThatOnlyFailsCountsOnceTowardsTheCircuit() {
+        EvidenceAnalyzerClient client = client(Duration.ofMillis(50), 2, n -> new Answer(Duration.ZERO, 503));
+
+        assertThatThrownBy(() -> client.requestGapAnalysis(request()).block(Duration.ofSeconds(3)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(requests).hasValue(2);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private EvidenceAnalyzerClient client(Duration hedgeDelay, int failureThreshold, IntFunction<Answer> script) {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/api/analyze/gaps",
+                        (request, response) -> serve(request, response, script)))
+                .bindNow();
+        return new EvidenceAnalyzerClient("http://127.0.0.1:" + server.port(), 16, Duration.ofSeconds(2),
+                Duration.ofSeconds(10), 32, failureThreshold, Duration.ofMinutes(1), hedgeDelay);
+    }
+
+    private Publisher<Void> serve(HttpServerRequest request, HttpServerResponse response, IntFunction<Answer> script) {
+        int n = requests.incrementAndGet();
+        Answer answer = script.apply(n);
+        return response.status(answer.status())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendString(request.receive().aggregate().asString()
+                        .then(Mono.delay(answer.latency()))
+                        .thenReturn(BODY)
+                        .doOnSuccess(body -> completed.put(n, true)));
+    }
+
+    private static GapAnalysisRequest request() {
+        return GapAnalysisRequest.builder()
+                .requirements(List.of(GapAnalysisRequest.RequirementItem.builder()
+                        .id("AC-1")
+                        .requirement("Access control policy")
+                        .status("PENDING")
+                        .build()))
+                .evidenceList(List.of())
+                .build();
+    }
+
+    private record Answer(Duration latency, int status) {
+    }
+}
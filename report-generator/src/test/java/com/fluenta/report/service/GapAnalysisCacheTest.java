@@ -0,0 +1,60 @@
+package com.fluenta.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluenta.report.model.GapAnalysisRequest;
+import com.fluenta.report.model.GapAnalysisResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GapAnalysisCacheTest {
+
+    @Test
+    void callerThatTimesOutDoesNotCancelTheSharedCall() {
+        GapAnalysisCache cache = new GapAnalysisCache(new ObjectMapper(), 100, Duration.ofHours(1), "");
+        CompletableFuture<GapAnalysisResponse> upstream = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+        GapAnalysisRequest request = request();
+
+        CompletableFuture<GapAnalysisResponse> first = cache.getOrCompute(request, r -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<GapAnalysisResponse> second = cache.getOrCompute(request, r -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+
+        // The reactive gap report cancels its future when it times out
+        assertThatThrownBy(() -> Mono.fromFuture(() -> first).timeout(Duration.ofMillis(10)).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(first).isCancelled();
+
+        GapAnalysisResponse response = GapAnalysisResponse.builder().suggestions(List.of("Upload a policy")).build();
+        upstream.complete(response);
+        assertThat(second.join()).isSameAs(response);
+        assertThat(cache.getOrCompute(request, r -> CompletableFuture.failedFuture(new AssertionError())).join())
+                .isSameAs(response);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getCollapsed()).isEqualTo(1);
+    }
+
+    private static GapAnalysisRequest request() {
+        return GapAnalysisRequest.builder()
+                .requirements(List.of(GapAnalysisRequest.RequirementItem.builder()
+                        .id("REQ-1")
+                        .requirement("Access control policy")
+                        .status("PENDING")
+                        .build()))
+                .evidenceList(List.of())
+                .build();
+    }
+}
@@ -110,6 +110,18 @@ curl -s -X POST http://localhost:5001/api/report/suggestions \
   }' | jq '.'
 echo ""
 
+# Metrics (Prometheus format)
+echo -e "${BLUE}=== METRICS ===${NC}"
+echo ""
+
+echo -e "${GREEN}12. GET /actuator/prometheus - Checklist service metrics${NC}"
+curl -s http://localhost:8080/actuator/prometheus | grep -E '^checklist_'
+echo ""
+
+echo -e "${GREEN}13. GET /actuator/prometheus - Report generator metrics${NC}"
+curl -s http://localhost:5001/actuator/prometheus | grep -E '^report_' | grep -v '_bucket'
+echo ""
+
 echo "======================================================================"
 echo "All endpoint tests completed!"
 echo "======================================================================"